@@ -37,6 +37,13 @@ tasks.named<Test>("test", {
 dependencies {
     compileOnly("org.springframework:spring-test:5.3.39")
     testImplementation("org.springframework:spring-test:5.3.39")
+    compileOnly("org.springframework:spring-web:5.3.39")
+    compileOnly("io.projectreactor:reactor-core:3.4.41")
+    testImplementation("io.projectreactor:reactor-core:3.4.41")
+    compileOnly("javax.servlet:javax.servlet-api:4.0.1")
+    testImplementation("javax.servlet:javax.servlet-api:4.0.1")
+    testImplementation("org.springframework:spring-webmvc:5.3.39")
+    compileOnly("org.junit.jupiter:junit-jupiter-api:5.10.0")
     testCompileOnly("org.jetbrains:annotations:26.0.2")
     implementation("com.jayway.jsonpath:json-path:2.9.0")
     compileOnly("org.jetbrains:annotations:26.0.2")
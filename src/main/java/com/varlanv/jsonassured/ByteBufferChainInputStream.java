@@ -0,0 +1,75 @@
+package com.varlanv.jsonassured;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.Nullable;
+
+final class ByteBufferChainInputStream extends InputStream {
+
+  private final List<ByteBuffer> buffers;
+  private int current;
+
+  ByteBufferChainInputStream(List<ByteBuffer> buffers) {
+    var views = new ArrayList<ByteBuffer>(buffers.size());
+    for (var buffer : buffers) {
+      if (buffer.hasRemaining()) {
+        views.add(buffer.duplicate());
+      }
+    }
+    this.buffers = views;
+  }
+
+  @Override
+  public int read() {
+    var buffer = currentBuffer();
+    return buffer == null ? -1 : buffer.get() & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] target, int offset, int length) {
+    if (length == 0) {
+      return 0;
+    }
+    var buffer = currentBuffer();
+    if (buffer == null) {
+      return -1;
+    }
+    var count = Math.min(length, buffer.remaining());
+    buffer.get(target, offset, count);
+    return count;
+  }
+
+  @Override
+  public long skip(long n) {
+    var skipped = 0L;
+    while (skipped < n) {
+      var buffer = currentBuffer();
+      if (buffer == null) {
+        break;
+      }
+      var count = (int) Math.min(n - skipped, buffer.remaining());
+      buffer.position(buffer.position() + count);
+      skipped += count;
+    }
+    return skipped;
+  }
+
+  @Override
+  public int available() {
+    var buffer = currentBuffer();
+    return buffer == null ? 0 : buffer.remaining();
+  }
+
+  private @Nullable ByteBuffer currentBuffer() {
+    while (current < buffers.size()) {
+      var buffer = buffers.get(current);
+      if (buffer.hasRemaining()) {
+        return buffer;
+      }
+      current++;
+    }
+    return null;
+  }
+}
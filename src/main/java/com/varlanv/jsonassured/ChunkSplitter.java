@@ -0,0 +1,11 @@
+package com.varlanv.jsonassured;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+interface ChunkSplitter {
+
+  List<byte[]> feed(ByteBuffer chunk);
+
+  List<byte[]> finish();
+}
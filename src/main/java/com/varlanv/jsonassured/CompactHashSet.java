@@ -0,0 +1,56 @@
+package com.varlanv.jsonassured;
+
+import org.jetbrains.annotations.Nullable;
+
+final class CompactHashSet<E> {
+
+  private Object[] table;
+  private int mask;
+  private int size;
+  private boolean containsNull;
+
+  CompactHashSet(int expectedSize) {
+    var capacity = InternalUtils.tableCapacity(expectedSize);
+    this.table = new Object[capacity];
+    this.mask = capacity - 1;
+  }
+
+  boolean add(@Nullable E value) {
+    if (value == null) {
+      if (containsNull) {
+        return false;
+      }
+      containsNull = true;
+      return true;
+    }
+    var idx = InternalUtils.mixHash(value.hashCode()) & mask;
+    while (true) {
+      var current = table[idx];
+      if (current == null) {
+        table[idx] = value;
+        if (++size * 2 > table.length) {
+          rehash();
+        }
+        return true;
+      } else if (current.equals(value)) {
+        return false;
+      }
+      idx = (idx + 1) & mask;
+    }
+  }
+
+  private void rehash() {
+    var oldTable = table;
+    table = new Object[oldTable.length * 2];
+    mask = table.length - 1;
+    for (var value : oldTable) {
+      if (value != null) {
+        var idx = InternalUtils.mixHash(value.hashCode()) & mask;
+        while (table[idx] != null) {
+          idx = (idx + 1) & mask;
+        }
+        table[idx] = value;
+      }
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.varlanv.jsonassured;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONValue;
+import org.jetbrains.annotations.Nullable;
+
+final class FrozenList extends AbstractList<@Nullable Object> implements RandomAccess {
+
+  private final List<@Nullable Object> items;
+
+  FrozenList(List<@Nullable Object> items) {
+    this.items = items;
+  }
+
+  @Override
+  public @Nullable Object get(int index) {
+    return items.get(index);
+  }
+
+  @Override
+  public int size() {
+    return items.size();
+  }
+
+  @Override
+  public String toString() {
+    return JSONArray.toJSONString(this, JSONValue.COMPRESSION);
+  }
+}
@@ -0,0 +1,54 @@
+package com.varlanv.jsonassured;
+
+final class IntHashSet {
+
+  private int[] table;
+  private int mask;
+  private int size;
+  private boolean containsZero;
+
+  IntHashSet(int expectedSize) {
+    var capacity = InternalUtils.tableCapacity(expectedSize);
+    this.table = new int[capacity];
+    this.mask = capacity - 1;
+  }
+
+  boolean add(int value) {
+    if (value == 0) {
+      if (containsZero) {
+        return false;
+      }
+      containsZero = true;
+      return true;
+    }
+    var idx = InternalUtils.mixHash(value) & mask;
+    while (true) {
+      var current = table[idx];
+      if (current == 0) {
+        table[idx] = value;
+        if (++size * 2 > table.length) {
+          rehash();
+        }
+        return true;
+      } else if (current == value) {
+        return false;
+      }
+      idx = (idx + 1) & mask;
+    }
+  }
+
+  private void rehash() {
+    var oldTable = table;
+    table = new int[oldTable.length * 2];
+    mask = table.length - 1;
+    for (var value : oldTable) {
+      if (value != 0) {
+        var idx = InternalUtils.mixHash(value) & mask;
+        while (table[idx] != 0) {
+          idx = (idx + 1) & mask;
+        }
+        table[idx] = value;
+      }
+    }
+  }
+}
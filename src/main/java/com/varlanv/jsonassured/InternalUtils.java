@@ -2,8 +2,11 @@ package com.varlanv.jsonassured;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -21,7 +24,7 @@ interface InternalUtils {
       action.toUnchecked().accept(actualSupplier.get());
     } catch (Throwable t) {
       InternalUtils.rethrowUnrecoverable(t);
-      throw new AssertionError(
+      throw new JsonAssertionError(
           String.format(
               "%s value at path \"%s\" did not satisfy provided condition", typeName, path),
           t);
@@ -67,7 +70,7 @@ interface InternalUtils {
         return response;
       }
     }
-    throw new AssertionError("");
+    throw new JsonAssertionError("");
   }
 
   static <R> R isEmpty(
@@ -76,7 +79,7 @@ interface InternalUtils {
     if (subject.isEmpty()) {
       return toReturn;
     }
-    throw new AssertionError(
+    throw new JsonAssertionError(
         String.format(
             "%s array at path \"%s\" has size %d, but expected to be empty",
             arrayType, path, subject.size()));
@@ -88,7 +91,7 @@ interface InternalUtils {
     if (!subject.isEmpty()) {
       return toReturn;
     }
-    throw new AssertionError(
+    throw new JsonAssertionError(
         String.format(
             "%s array at path \"%s\" is expected to be not empty, but was empty", arrayType, path));
   }
@@ -103,7 +106,7 @@ interface InternalUtils {
     if (subject.size() == expectedSize) {
       return toReturn;
     }
-    throw new AssertionError(
+    throw new JsonAssertionError(
         String.format(
             "%s array at path \"%s\" has size %d, but expected size is %d",
             arrayType, path, subject.size(), expectedSize));
@@ -124,12 +127,12 @@ interface InternalUtils {
     if (indexesOfNull.isEmpty()) {
       return toReturn;
     } else if (indexesOfNull.size() == 1) {
-      throw new AssertionError(
+      throw new JsonAssertionError(
           String.format(
               "%s array at path \"%s\" expected to not contain null, but found one null at index [%d]",
               arrayType, path, indexesOfNull.get(0)));
     } else {
-      throw new AssertionError(
+      throw new JsonAssertionError(
           String.format(
               "%s array at path \"%s\" expected to not contain null, but found multiple nulls at indexes [%s]",
               arrayType, path, indexesOfNull));
@@ -159,44 +162,46 @@ interface InternalUtils {
         return toReturn;
       }
     }
-    throw new AssertionError(
+    throw new JsonAssertionError(
         String.format(
             "%s array at path \"%s\" does not contain some of expected values", arrayType, path));
   }
 
   static <E, R> R containsAny(
       R toReturn,
-      Supplier<? extends List<E>> subjectSupplier,
+      Supplier<? extends Iterator<E>> elementsSupplier,
       Stream<E> expected,
       String path,
       String arrayType) {
-    var subject = subjectSupplier.get();
+    var elements = elementsSupplier.get();
     var expectedList = streamToList(expected);
-    if (subject.isEmpty()) {
+    if (!elements.hasNext()) {
       return toReturn;
     }
-    for (var actual : subject) {
+    while (elements.hasNext()) {
+      var actual = elements.next();
       for (var expectedVal : expectedList) {
-        if (actual.equals(expectedVal)) {
+        if (expectedVal.equals(actual)) {
           return toReturn;
         }
       }
     }
-    throw new AssertionError(
+    throw new JsonAssertionError(
         String.format(
             "%s array at path \"%s\" does not contain any of expected values", arrayType, path));
   }
 
   static <E, R> R allSatisfy(
       R toReturn,
-      Supplier<? extends List<E>> subjectSupplier,
+      Supplier<? extends Iterator<E>> elementsSupplier,
       JsonAssured.ThrowingConsumer<E> consumer) {
-    var subject = subjectSupplier.get();
-    for (var actual : subject) {
+    var elements = elementsSupplier.get();
+    while (elements.hasNext()) {
+      var actual = elements.next();
       try {
         consumer.toUnchecked().accept(actual);
       } catch (Throwable e) {
-        throw new AssertionError("Not satisfied", e);
+        throw new JsonAssertionError("Not satisfied", e);
       }
     }
     return toReturn;
@@ -204,18 +209,132 @@ interface InternalUtils {
 
   static <E, R> R anySatisfy(
       R toReturn,
-      Supplier<? extends List<E>> subjectSupplier,
-      JsonAssured.ThrowingConsumer<E> consumer) {
-    var subject = subjectSupplier.get();
-    for (var actual : subject) {
-      try {
-        consumer.toUnchecked().accept(actual);
+      Supplier<? extends Iterator<E>> elementsSupplier,
+      JsonAssured.ThrowingConsumer<E> consumer,
+      String path,
+      String arrayType) {
+    var elements = elementsSupplier.get();
+    @Nullable Throwable firstFailure = null;
+    var checked = 0;
+    JsonAssertionError.enterStackless();
+    try {
+      while (elements.hasNext()) {
+        var actual = elements.next();
+        try {
+          consumer.accept(actual);
+          return toReturn;
+        } catch (Throwable e) {
+          rethrowUnrecoverable(e);
+          if (firstFailure == null) {
+            firstFailure = e;
+          }
+        }
+        checked++;
+      }
+    } finally {
+      JsonAssertionError.exitStackless();
+    }
+    throw new JsonAssertionError(
+        String.format(
+            "%s array at path \"%s\" expected at least one element to satisfy provided condition, but none of %d elements did",
+            arrayType, path, checked),
+        firstFailure);
+  }
+
+  static <E, R> R allMatch(
+      R toReturn,
+      Supplier<? extends Iterator<E>> elementsSupplier,
+      Predicate<? super E> predicate,
+      ValueFormatter formatter,
+      String path,
+      String arrayType) {
+    expectedNotNull(predicate, "Predicate");
+    var elements = elementsSupplier.get();
+    var total = 0;
+    var mismatches = 0;
+    var firstIdx = -1;
+    @Nullable E firstValue = null;
+    while (elements.hasNext()) {
+      var actual = elements.next();
+      if (!predicate.test(actual) && mismatches++ == 0) {
+        firstIdx = total;
+        firstValue = actual;
+      }
+      total++;
+    }
+    if (mismatches == 0) {
+      return toReturn;
+    }
+    return failMatch(
+        "expected all elements to match predicate, but %d of %d elements did not, first at index [%d]: <%s>",
+        mismatches, total, firstIdx, firstValue, formatter, path, arrayType);
+  }
+
+  static <E, R> R noneMatch(
+      R toReturn,
+      Supplier<? extends Iterator<E>> elementsSupplier,
+      Predicate<? super E> predicate,
+      ValueFormatter formatter,
+      String path,
+      String arrayType) {
+    expectedNotNull(predicate, "Predicate");
+    var elements = elementsSupplier.get();
+    var total = 0;
+    var matches = 0;
+    var firstIdx = -1;
+    @Nullable E firstValue = null;
+    while (elements.hasNext()) {
+      var actual = elements.next();
+      if (predicate.test(actual) && matches++ == 0) {
+        firstIdx = total;
+        firstValue = actual;
+      }
+      total++;
+    }
+    if (matches == 0) {
+      return toReturn;
+    }
+    return failMatch(
+        "expected no elements to match predicate, but %d of %d elements did, first at index [%d]: <%s>",
+        matches, total, firstIdx, firstValue, formatter, path, arrayType);
+  }
+
+  static <E, R> R anyMatch(
+      R toReturn,
+      Supplier<? extends Iterator<E>> elementsSupplier,
+      Predicate<? super E> predicate,
+      String path,
+      String arrayType) {
+    expectedNotNull(predicate, "Predicate");
+    var elements = elementsSupplier.get();
+    var total = 0;
+    while (elements.hasNext()) {
+      if (predicate.test(elements.next())) {
         return toReturn;
-      } catch (Throwable e) {
-        throw new AssertionError("Not satisfied", e);
       }
+      total++;
     }
-    return toReturn;
+    var checked = total;
+    throw new JsonAssertionError(
+        () ->
+            String.format(
+                "%s array at path \"%s\" expected at least one element to match predicate, but none of %d elements did",
+                arrayType, path, checked));
+  }
+
+  private static <R> R failMatch(
+      String reason,
+      int count,
+      int total,
+      int firstIdx,
+      @Nullable Object firstValue,
+      ValueFormatter formatter,
+      String path,
+      String arrayType) {
+    throw new JsonAssertionError(
+        () ->
+            String.format("%s array at path \"%s\" ", arrayType, path)
+                + String.format(reason, count, total, firstIdx, formatter.format(firstValue)));
   }
 
   static <E, R> R satisfy(
@@ -227,6 +346,126 @@ interface InternalUtils {
     return toReturn;
   }
 
+  static <R> R hasNoDuplicates(
+      R toReturn,
+      Supplier<? extends List<?>> subjectSupplier,
+      ValueFormatter formatter,
+      String path,
+      String arrayType) {
+    var subject = subjectSupplier.get();
+    var size = subject.size();
+    if (size < 2) {
+      return toReturn;
+    }
+    @Nullable IntHashSet ints = null;
+    @Nullable LongHashSet longs = null;
+    @Nullable CompactHashSet<Object> others = null;
+    var idx = 0;
+    for (var item : subject) {
+      boolean added;
+      if (item instanceof Integer) {
+        if (ints == null) {
+          ints = new IntHashSet(size);
+        }
+        added = ints.add((Integer) item);
+      } else if (item instanceof Long) {
+        if (longs == null) {
+          longs = new LongHashSet(size);
+        }
+        added = longs.add((Long) item);
+      } else {
+        if (others == null) {
+          others = new CompactHashSet<>(size);
+        }
+        added = others.add(item);
+      }
+      if (!added) {
+        var duplicateIdx = idx;
+        throw new JsonAssertionError(
+            () ->
+                String.format(
+                    "%s array at path \"%s\" expected to not contain duplicates, but value <%s> at index [%d] is a duplicate of value at index [%d]",
+                    arrayType, path, formatter.format(item), duplicateIdx, indexOf(subject, item)));
+      }
+      idx++;
+    }
+    return toReturn;
+  }
+
+  static <E, R> R hasNoDuplicatesBy(
+      R toReturn,
+      Supplier<? extends List<E>> subjectSupplier,
+      ValueFormatter formatter,
+      Function<? super E, ?> keyExtractor,
+      String path,
+      String arrayType) {
+    var subject = subjectSupplier.get();
+    var size = subject.size();
+    if (size < 2) {
+      return toReturn;
+    }
+    var keys = new CompactHashSet<>(size);
+    var idx = 0;
+    for (var item : subject) {
+      var key = item == null ? null : keyExtractor.apply(item);
+      if (!keys.add(key)) {
+        var firstIdx = 0;
+        for (var other : subject) {
+          if (Objects.equals(key, other == null ? null : keyExtractor.apply(other))) {
+            break;
+          }
+          firstIdx++;
+        }
+        var duplicateIdx = idx;
+        var duplicateOf = firstIdx;
+        throw new JsonAssertionError(
+            () ->
+                String.format(
+                    "%s array at path \"%s\" expected to not contain duplicates by key, but element at index [%d] has the same key <%s> as element at index [%d]",
+                    arrayType, path, duplicateIdx, formatter.format(key), duplicateOf));
+      }
+      idx++;
+    }
+    return toReturn;
+  }
+
+  static int indexOf(Iterable<?> subject, @Nullable Object item) {
+    var idx = 0;
+    for (var other : subject) {
+      if (Objects.equals(item, other)) {
+        return idx;
+      }
+      idx++;
+    }
+    return -1;
+  }
+
+  static int tableCapacity(int expectedSize) {
+    var capacity = 16;
+    while (capacity < expectedSize * 2 && capacity < (1 << 30)) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  static int mixHash(int hash) {
+    var h = hash * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  static String formatDifferences(List<String> differences) {
+    var maxReported = 50;
+    var formatted =
+        differences.stream()
+            .limit(maxReported)
+            .map(difference -> "  - " + difference)
+            .collect(Collectors.joining(System.lineSeparator()));
+    if (differences.size() > maxReported) {
+      return formatted + String.format("%n  ... and %d more", differences.size() - maxReported);
+    }
+    return formatted;
+  }
+
   static String formatActualExpected(Object actual, Object expected) {
     return String.format("Expected: <%s> but was: <%s>", expected, actual);
   }
@@ -272,6 +511,22 @@ interface InternalUtils {
     return expectedList;
   }
 
+  static <E> Iterator<E> mappingIterator(Iterator<?> source, Function<Object, E> mapper) {
+    return new Iterator<>() {
+
+      @Override
+      public boolean hasNext() {
+        return source.hasNext();
+      }
+
+      @Override
+      public E next() {
+        var item = source.next();
+        return item == null ? null : mapper.apply(item);
+      }
+    };
+  }
+
   static <E, T extends Throwable> List<E> objectToList(
       @Nullable Object val, Function<Object, E> mapper, Function<@Nullable Object, T> onError)
       throws T {
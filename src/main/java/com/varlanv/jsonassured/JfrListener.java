@@ -0,0 +1,135 @@
+package com.varlanv.jsonassured;
+
+import java.util.ArrayDeque;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+final class JfrListener implements JsonAssuredListener {
+
+  private final EventType parseType = EventType.getEventType(ParseEvent.class);
+  private final EventType pathReadType = EventType.getEventType(PathReadEvent.class);
+  private final EventType assertionType = EventType.getEventType(AssertionEvent.class);
+  private final ThreadLocal<ArrayDeque<ParseEvent>> parses =
+      ThreadLocal.withInitial(ArrayDeque::new);
+  private final ThreadLocal<ArrayDeque<PathReadEvent>> pathReads =
+      ThreadLocal.withInitial(ArrayDeque::new);
+  private final ThreadLocal<ArrayDeque<AssertionEvent>> assertions =
+      ThreadLocal.withInitial(ArrayDeque::new);
+
+  boolean isEnabled() {
+    return parseType.isEnabled() || pathReadType.isEnabled() || assertionType.isEnabled();
+  }
+
+  @Override
+  public void onParseStart(long byteCount) {
+    var event = new ParseEvent();
+    event.begin();
+    parses.get().push(event);
+  }
+
+  @Override
+  public void onParseEnd(long byteCount, long durationNanos) {
+    var event = parses.get().pop();
+    event.end();
+    if (event.shouldCommit()) {
+      event.documentSize = byteCount;
+      event.commit();
+    }
+  }
+
+  @Override
+  public void onPathStart(String jsonPath, long documentSize) {
+    var event = new PathReadEvent();
+    event.documentSize = documentSize;
+    event.begin();
+    pathReads.get().push(event);
+  }
+
+  @Override
+  public void onPathEvaluated(String jsonPath, String resultType, long durationNanos) {
+    var event = pathReads.get().pop();
+    event.end();
+    if (event.shouldCommit()) {
+      event.path = jsonPath;
+      event.resultType = resultType;
+      event.commit();
+    }
+  }
+
+  @Override
+  public void onAssertionStart(String assertion, String target, long documentSize) {
+    var event = new AssertionEvent();
+    event.documentSize = documentSize;
+    event.begin();
+    assertions.get().push(event);
+  }
+
+  @Override
+  public void onAssertion(String assertion, String target, boolean passed, long durationNanos) {
+    var event = assertions.get().pop();
+    event.end();
+    if (event.shouldCommit()) {
+      event.assertion = assertion;
+      event.target = target;
+      event.passed = passed;
+      event.commit();
+    }
+  }
+
+  @Name("jsonassured.Parse")
+  @Label("JSON Parse")
+  @Category("JsonAssured")
+  @Enabled(false)
+  @StackTrace(false)
+  static final class ParseEvent extends Event {
+
+    @Label("Document Size")
+    @DataAmount
+    long documentSize;
+  }
+
+  @Name("jsonassured.PathRead")
+  @Label("JSON Path Read")
+  @Category("JsonAssured")
+  @Enabled(false)
+  @StackTrace(false)
+  static final class PathReadEvent extends Event {
+
+    @Label("Path")
+    String path;
+
+    @Label("Result Type")
+    String resultType;
+
+    @Label("Document Size")
+    @DataAmount
+    long documentSize;
+  }
+
+  @Name("jsonassured.Assertion")
+  @Label("JSON Assertion")
+  @Category("JsonAssured")
+  @Enabled(false)
+  @StackTrace(false)
+  static final class AssertionEvent extends Event {
+
+    @Label("Assertion")
+    String assertion;
+
+    @Label("Target")
+    String target;
+
+    @Label("Passed")
+    boolean passed;
+
+    @Label("Document Size")
+    @DataAmount
+    long documentSize;
+  }
+}
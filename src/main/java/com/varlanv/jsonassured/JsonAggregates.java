@@ -0,0 +1,93 @@
+package com.varlanv.jsonassured;
+
+import com.jayway.jsonpath.DocumentContext;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Iterator;
+import org.jetbrains.annotations.Nullable;
+
+final class JsonAggregates {
+
+  private JsonAggregates() {}
+
+  static Iterator<?> values(DocumentContext context, String jsonPath) {
+    var stream = JsonPathStream.compile(jsonPath);
+    if (stream != null) {
+      return stream.iterator(context.json());
+    }
+    var val = context.read(jsonPath, Object.class);
+    if (val instanceof Iterable<?>) {
+      return ((Iterable<?>) val).iterator();
+    }
+    return Collections.singletonList(val).iterator();
+  }
+
+  static long count(Iterator<?> values) {
+    var count = 0L;
+    while (values.hasNext()) {
+      values.next();
+      count++;
+    }
+    return count;
+  }
+
+  static Number sum(Iterator<?> values, String description) {
+    var exact = 0L;
+    @Nullable BigDecimal decimal = null;
+    while (values.hasNext()) {
+      var number = number(values.next(), description);
+      if (decimal == null && (number instanceof Integer || number instanceof Long)) {
+        var value = number.longValue();
+        var result = exact + value;
+        if (((exact ^ result) & (value ^ result)) >= 0) {
+          exact = result;
+          continue;
+        }
+      }
+      decimal =
+          (decimal == null ? BigDecimal.valueOf(exact) : decimal)
+              .add(JsonNodes.normalizeNumber(number));
+    }
+    return decimal == null ? Long.valueOf(exact) : decimal;
+  }
+
+  static Number extremum(Iterator<?> values, String description, boolean max) {
+    @Nullable Number best = null;
+    while (values.hasNext()) {
+      var number = number(values.next(), description);
+      if (best == null) {
+        best = number;
+      } else {
+        var cmp = compare(number, best);
+        if (max ? cmp > 0 : cmp < 0) {
+          best = number;
+        }
+      }
+    }
+    if (best == null) {
+      throw new JsonAssertionError(
+          String.format("Cannot compute %s, because no values were found", description));
+    }
+    return best;
+  }
+
+  static int compare(Number left, Number right) {
+    if ((left instanceof Integer || left instanceof Long)
+        && (right instanceof Integer || right instanceof Long)) {
+      return Long.compare(left.longValue(), right.longValue());
+    }
+    return JsonNodes.normalizeNumber(left).compareTo(JsonNodes.normalizeNumber(right));
+  }
+
+  private static Number number(@Nullable Object value, String description) {
+    if (value instanceof Number) {
+      return (Number) value;
+    }
+    throw new JsonAssertionError(
+        String.format(
+            "Expected only number values for %s, but found <%s> of type \"%s\"",
+            description,
+            ValueFormatter.DEFAULT.formatJson(value),
+            JsonAssured.JsonPathAssertions.resolveActualTypeName(value)));
+  }
+}
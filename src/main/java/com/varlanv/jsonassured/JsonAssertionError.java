@@ -0,0 +1,65 @@
+package com.varlanv.jsonassured;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.Nullable;
+
+final class JsonAssertionError extends AssertionError {
+
+  private static final long serialVersionUID = 1L;
+  private static final ThreadLocal<int[]> STACKLESS_DEPTH =
+      ThreadLocal.withInitial(() -> new int[1]);
+
+  @Nullable private transient Supplier<String> messageSupplier;
+  @Nullable private String message;
+
+  JsonAssertionError(String message) {
+    this.message = message;
+  }
+
+  JsonAssertionError(String message, Throwable cause) {
+    this.message = message;
+    initCause(cause);
+  }
+
+  JsonAssertionError(Supplier<String> messageSupplier) {
+    this.messageSupplier = messageSupplier;
+  }
+
+  JsonAssertionError(Supplier<String> messageSupplier, Throwable cause) {
+    this.messageSupplier = messageSupplier;
+    initCause(cause);
+  }
+
+  static void enterStackless() {
+    STACKLESS_DEPTH.get()[0]++;
+  }
+
+  static void exitStackless() {
+    STACKLESS_DEPTH.get()[0]--;
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    if (STACKLESS_DEPTH.get()[0] > 0) {
+      return this;
+    }
+    return super.fillInStackTrace();
+  }
+
+  @Override
+  public synchronized String getMessage() {
+    var supplier = messageSupplier;
+    if (supplier != null) {
+      message = supplier.get();
+      messageSupplier = null;
+    }
+    return message;
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    getMessage();
+    out.defaultWriteObject();
+  }
+}
@@ -2,6 +2,7 @@ package com.varlanv.jsonassured;
 
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.PathNotFoundException;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
@@ -9,8 +10,19 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import org.intellij.lang.annotations.Language;
@@ -19,14 +31,31 @@ import org.jetbrains.annotations.Nullable;
 public interface JsonAssured {
 
   static JsonPathAssertions assertJson(byte[] bytes) {
+    return assertJson(bytes, JsonAssuredConfig.defaults());
+  }
+
+  static JsonPathAssertions assertJson(byte[] bytes, JsonAssuredConfig config) {
     Objects.requireNonNull(bytes);
+    Objects.requireNonNull(config);
+    var listener = JsonListeners.resolve(config);
     return new JsonPathAssertions(
-        new MemoizedSupplier<>(() -> JsonPath.parse(new ByteArrayInputStream(bytes))));
+        JsonListeners.parser(
+            listener, bytes.length, () -> JsonPath.parse(new ByteArrayInputStream(bytes))),
+        config.rawStringComparison() ? new RawJsonScanner(bytes) : null,
+        config.valueFormatter(),
+        listener,
+        bytes.length);
   }
 
   static JsonPathAssertions assertJson(InputStream is) {
     Objects.requireNonNull(is);
-    return new JsonPathAssertions(new MemoizedSupplier<>(() -> JsonPath.parse(is)));
+    var listener = JsonListeners.resolve(JsonAssuredConfig.defaults());
+    return new JsonPathAssertions(
+        JsonListeners.parser(listener, JsonListeners.UNKNOWN_BYTE_COUNT, () -> JsonPath.parse(is)),
+        null,
+        ValueFormatter.DEFAULT,
+        listener,
+        JsonListeners.UNKNOWN_BYTE_COUNT);
   }
 
   static JsonPathAssertions assertJson(Reader reader) {
@@ -38,19 +67,419 @@ public interface JsonAssured {
   }
 
   static JsonPathAssertions assertJson(@Language("json") String json) {
+    return assertJson(json, JsonAssuredConfig.defaults());
+  }
+
+  static JsonPathAssertions assertJson(@Language("json") String json, JsonAssuredConfig config) {
     Objects.requireNonNull(json);
-    return new JsonPathAssertions(new MemoizedSupplier<>(() -> JsonPath.parse(json)));
+    Objects.requireNonNull(config);
+    var listener = JsonListeners.resolve(config);
+    var documentSize =
+        listener == null ? JsonListeners.UNKNOWN_BYTE_COUNT : JsonListeners.utf8Length(json);
+    return new JsonPathAssertions(
+        JsonListeners.parser(listener, documentSize, () -> JsonPath.parse(json)),
+        null,
+        config.valueFormatter(),
+        listener,
+        documentSize);
+  }
+
+  static void registerListener(JsonAssuredListener listener) {
+    InternalUtils.expectedNotNull(listener, "Listener");
+    JsonListeners.register(listener);
+  }
+
+  static void unregisterListener(JsonAssuredListener listener) {
+    InternalUtils.expectedNotNull(listener, "Listener");
+    JsonListeners.unregister(listener);
+  }
+
+  static CompletableFuture<JsonPathAssertions> assertJsonAsync(
+      CompletionStage<byte[]> body, ThrowingConsumer<JsonPathAssertions> specification) {
+    Objects.requireNonNull(body);
+    Objects.requireNonNull(specification);
+    return body.thenApplyAsync(bytes -> runSpecification(bytes, specification))
+        .toCompletableFuture();
+  }
+
+  static CompletableFuture<JsonPathAssertions> assertJsonAsync(
+      CompletionStage<byte[]> body,
+      ThrowingConsumer<JsonPathAssertions> specification,
+      Executor executor) {
+    Objects.requireNonNull(body);
+    Objects.requireNonNull(specification);
+    Objects.requireNonNull(executor);
+    return body.thenApplyAsync(bytes -> runSpecification(bytes, specification), executor)
+        .toCompletableFuture();
+  }
+
+  private static JsonPathAssertions runSpecification(
+      byte[] bytes, ThrowingConsumer<JsonPathAssertions> specification) {
+    var assertions = assertJson(bytes);
+    specification.toUnchecked().accept(assertions);
+    return assertions;
+  }
+
+  static JsonPathAssertions eventually(
+      Supplier<byte[]> fetch,
+      ThrowingConsumer<JsonPathAssertions> specification,
+      Duration timeout,
+      Duration interval) {
+    Objects.requireNonNull(fetch);
+    Objects.requireNonNull(specification);
+    Objects.requireNonNull(timeout);
+    Objects.requireNonNull(interval);
+    if (timeout.isNegative() || timeout.isZero()) {
+      throw new IllegalArgumentException(
+          String.format("Timeout should be positive (received %s)", timeout));
+    }
+    if (interval.isNegative() || interval.isZero()) {
+      throw new IllegalArgumentException(
+          String.format("Interval should be positive (received %s)", interval));
+    }
+    return JsonPolling.eventually(fetch, specification, timeout, interval);
+  }
+
+  static JsonPathAssertions freeze(byte[] bytes) {
+    return freeze(bytes, JsonAssuredConfig.defaults());
+  }
+
+  static JsonPathAssertions freeze(byte[] bytes, JsonAssuredConfig config) {
+    Objects.requireNonNull(bytes);
+    Objects.requireNonNull(config);
+    var snapshot = bytes.clone();
+    var listener = JsonListeners.resolve(config);
+    var parsed =
+        JsonListeners.parser(
+                listener, snapshot.length, () -> JsonPath.parse(new ByteArrayInputStream(snapshot)))
+            .get();
+    var document = JsonPath.parse(JsonNodes.freeze(parsed.json()));
+    return new JsonPathAssertions(
+        new MemoizedSupplier<>(() -> document),
+        config.rawStringComparison() ? new RawJsonScanner(snapshot, true) : null,
+        config.valueFormatter(),
+        listener,
+        snapshot.length);
+  }
+
+  static ValidationResult validate(
+      byte[] bytes, ThrowingConsumer<JsonPathAssertions> specification) {
+    return validate(bytes, JsonAssuredConfig.defaults(), specification);
+  }
+
+  static ValidationResult validate(
+      byte[] bytes, JsonAssuredConfig config, ThrowingConsumer<JsonPathAssertions> specification) {
+    Objects.requireNonNull(bytes);
+    Objects.requireNonNull(config);
+    Objects.requireNonNull(specification);
+    var violations = new ArrayList<Throwable>();
+    var listener = JsonListeners.resolve(config);
+    var assertions =
+        new JsonPathAssertions(
+            JsonListeners.parser(
+                listener, bytes.length, () -> JsonPath.parse(new ByteArrayInputStream(bytes))),
+            config.rawStringComparison() ? new RawJsonScanner(bytes) : null,
+            config.valueFormatter(),
+            listener,
+            bytes.length,
+            violations);
+    JsonAssertionError.enterStackless();
+    try {
+      specification.accept(assertions);
+    } catch (AssertionError | JsonPathException e) {
+      violations.add(e);
+    } catch (Throwable e) {
+      InternalUtils.rethrow(e);
+    } finally {
+      JsonAssertionError.exitStackless();
+    }
+    return new ValidationResult(violations);
+  }
+
+  static void assertAll(
+      Iterable<byte[]> bodies, ThrowingConsumer<JsonPathAssertions> specification) {
+    Objects.requireNonNull(bodies);
+    Objects.requireNonNull(specification);
+    var executor = JsonBatchAssertions.newDefaultExecutor();
+    try {
+      JsonBatchAssertions.assertAll(bodies, specification, executor);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  static void assertAll(
+      Iterable<byte[]> bodies,
+      ThrowingConsumer<JsonPathAssertions> specification,
+      Executor executor) {
+    Objects.requireNonNull(bodies);
+    Objects.requireNonNull(specification);
+    Objects.requireNonNull(executor);
+    JsonBatchAssertions.assertAll(bodies, specification, executor);
+  }
+
+  enum JsonCompareOption {
+    IGNORING_ARRAY_ORDER,
+    IGNORING_EXTRA_FIELDS
+  }
+
+  enum JsonRelation {
+    EQUAL("equal to"),
+    NOT_EQUAL("not equal to"),
+    LESS_THAN("less than"),
+    LESS_THAN_OR_EQUAL("less than or equal to"),
+    GREATER_THAN("greater than"),
+    GREATER_THAN_OR_EQUAL("greater than or equal to");
+
+    private final String description;
+
+    JsonRelation(String description) {
+      this.description = description;
+    }
+
+    boolean isOrdering() {
+      return this != EQUAL && this != NOT_EQUAL;
+    }
+
+    boolean test(int comparison) {
+      switch (this) {
+        case EQUAL:
+          return comparison == 0;
+        case NOT_EQUAL:
+          return comparison != 0;
+        case LESS_THAN:
+          return comparison < 0;
+        case LESS_THAN_OR_EQUAL:
+          return comparison <= 0;
+        case GREATER_THAN:
+          return comparison > 0;
+        default:
+          return comparison >= 0;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return description;
+    }
+  }
+
+  final class ValidationResult {
+
+    private final List<Throwable> failures;
+    @Nullable private List<String> violations;
+
+    ValidationResult(List<Throwable> failures) {
+      this.failures = failures;
+    }
+
+    public boolean isValid() {
+      return failures.isEmpty();
+    }
+
+    public synchronized List<String> violations() {
+      var result = violations;
+      if (result == null) {
+        result =
+            failures.isEmpty()
+                ? List.of()
+                : failures.stream()
+                    .map(failure -> String.valueOf(failure.getMessage()))
+                    .collect(Collectors.toUnmodifiableList());
+        violations = result;
+      }
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      return isValid()
+          ? "ValidationResult{valid}"
+          : String.format(
+              "ValidationResult{%d violation(s):%n%s}",
+              failures.size(), InternalUtils.formatDifferences(violations()));
+    }
+  }
+
+  final class JsonOperand {
+
+    private static final int VALUE = 0;
+    private static final int COUNT = 1;
+    private static final int SUM = 2;
+    private static final int MIN = 3;
+    private static final int MAX = 4;
+
+    private final int kind;
+    private final String path;
+
+    private JsonOperand(int kind, String path) {
+      if (path == null || path.isBlank()) {
+        throw new IllegalArgumentException("jsonPath should be non-null and non-blank");
+      }
+      this.kind = kind;
+      this.path = path;
+    }
+
+    public static JsonOperand value(@Language("jsonpath") String jsonPath) {
+      return new JsonOperand(VALUE, jsonPath);
+    }
+
+    public static JsonOperand count(@Language("jsonpath") String jsonPath) {
+      return new JsonOperand(COUNT, jsonPath);
+    }
+
+    public static JsonOperand sum(@Language("jsonpath") String jsonPath) {
+      return new JsonOperand(SUM, jsonPath);
+    }
+
+    public static JsonOperand min(@Language("jsonpath") String jsonPath) {
+      return new JsonOperand(MIN, jsonPath);
+    }
+
+    public static JsonOperand max(@Language("jsonpath") String jsonPath) {
+      return new JsonOperand(MAX, jsonPath);
+    }
+
+    @Nullable Object resolve(DocumentContext context) {
+      switch (kind) {
+        case VALUE:
+          return context.read(path, Object.class);
+        case COUNT:
+          return JsonAggregates.count(JsonAggregates.values(context, path));
+        case SUM:
+          return JsonAggregates.sum(JsonAggregates.values(context, path), toString());
+        default:
+          return JsonAggregates.extremum(
+              JsonAggregates.values(context, path), toString(), kind == MAX);
+      }
+    }
+
+    @Override
+    public String toString() {
+      switch (kind) {
+        case VALUE:
+          return path;
+        case COUNT:
+          return "count(" + path + ")";
+        case SUM:
+          return "sum(" + path + ")";
+        case MIN:
+          return "min(" + path + ")";
+        default:
+          return "max(" + path + ")";
+      }
+    }
   }
 
   final class JsonPathAssertions {
 
     private final MemoizedSupplier<DocumentContext> contextSupplier;
+    @Nullable private final RawJsonScanner rawScanner;
+    private final ValueFormatter formatter;
+    @Nullable private final JsonAssuredListener listener;
+    private final long documentSize;
+    @Nullable private final List<Throwable> violations;
 
     JsonPathAssertions(MemoizedSupplier<DocumentContext> contextSupplier) {
+      this(contextSupplier, null, ValueFormatter.DEFAULT, null, JsonListeners.UNKNOWN_BYTE_COUNT);
+    }
+
+    JsonPathAssertions(
+        MemoizedSupplier<DocumentContext> contextSupplier,
+        @Nullable RawJsonScanner rawScanner,
+        ValueFormatter formatter,
+        @Nullable JsonAssuredListener listener,
+        long documentSize) {
+      this(contextSupplier, rawScanner, formatter, listener, documentSize, null);
+    }
+
+    JsonPathAssertions(
+        MemoizedSupplier<DocumentContext> contextSupplier,
+        @Nullable RawJsonScanner rawScanner,
+        ValueFormatter formatter,
+        @Nullable JsonAssuredListener listener,
+        long documentSize,
+        @Nullable List<Throwable> violations) {
       this.contextSupplier = contextSupplier;
+      this.rawScanner = rawScanner;
+      this.formatter = formatter;
+      this.listener = listener;
+      this.documentSize = documentSize;
+      this.violations = violations;
+    }
+
+    private JsonPathAssertions check(
+        String name, Object target, ThrowingSupplier<JsonPathAssertions> assertion) {
+      return check(name, target, null, null, assertion);
+    }
+
+    private JsonPathAssertions check(
+        String name,
+        Object target,
+        @Nullable Object relation,
+        @Nullable Object right,
+        ThrowingSupplier<JsonPathAssertions> assertion) {
+      var observer = listener;
+      if (observer == null) {
+        return evaluate(assertion);
+      }
+      var description =
+          relation == null ? String.valueOf(target) : target + " " + relation + " " + right;
+      observer.onAssertionStart(name, description, documentSize);
+      var collected = violations;
+      var violationsBefore = collected == null ? 0 : collected.size();
+      var start = System.nanoTime();
+      var passed = false;
+      try {
+        var result = evaluate(assertion);
+        passed = collected == null || collected.size() == violationsBefore;
+        return result;
+      } finally {
+        observer.onAssertion(name, description, passed, System.nanoTime() - start);
+      }
     }
 
-    private static String resolveActualTypeName(@Nullable Object val) {
+    private JsonPathAssertions evaluate(ThrowingSupplier<JsonPathAssertions> assertion) {
+      var collected = violations;
+      if (collected == null) {
+        return InternalUtils.sneakyGet(assertion);
+      }
+      try {
+        return assertion.get();
+      } catch (AssertionError | JsonPathException e) {
+        collected.add(e);
+        return this;
+      } catch (Throwable e) {
+        return InternalUtils.rethrow(e);
+      }
+    }
+
+    private @Nullable Object read(String jsonPath) {
+      if (listener == null) {
+        return contextSupplier.get().read(jsonPath, Object.class);
+      }
+      return observe(jsonPath, context -> context.read(jsonPath, Object.class));
+    }
+
+    private <T> T observe(String jsonPath, Function<DocumentContext, T> reader) {
+      var context = contextSupplier.get();
+      var observer = listener;
+      if (observer == null) {
+        return reader.apply(context);
+      }
+      observer.onPathStart(jsonPath, documentSize);
+      var start = System.nanoTime();
+      var resultType = "missing";
+      try {
+        var val = reader.apply(context);
+        resultType = val instanceof Iterator<?> ? "array" : resolveActualTypeName(val);
+        return val;
+      } finally {
+        observer.onPathEvaluated(jsonPath, resultType, System.nanoTime() - start);
+      }
+    }
+
+    static String resolveActualTypeName(@Nullable Object val) {
       if (val == null) {
         return "null";
       } else if (val instanceof Iterable<?> || val.getClass().isArray()) {
@@ -76,26 +505,31 @@ public interface JsonAssured {
       if (jsonPath == null || jsonPath.isBlank()) {
         throw new IllegalArgumentException("jsonPath should be non-null and non-blank");
       }
-      return contextSupplier.get().read(jsonPath, Object.class);
+      return read(jsonPath);
     }
 
     JsonPathAssertions stringPath(
         @Language("jsonpath") String jsonPath, ThrowingConsumer<JsonStringAssertions> consumer) {
-      return InternalUtils.sneakyGet(
+      return check(
+          "stringPath",
+          jsonPath,
           () -> {
             consumer.accept(
                 new JsonStringAssertions(
                     jsonPath,
+                    rawScanner,
+                    formatter,
                     new MemoizedSupplier<>(
                         () -> {
                           var val = readVal(jsonPath);
                           if (!(val instanceof CharSequence)) {
-                            throw new AssertionError(
-                                String.format(
-                                    "Expected value of type string at path \"%s\", but actual type was \"%s\"%s",
-                                    jsonPath,
-                                    resolveActualTypeName(val),
-                                    val == null ? "" : " (" + val + ")"));
+                            throw new JsonAssertionError(
+                                () ->
+                                    String.format(
+                                        "Expected value of type string at path \"%s\", but actual type was \"%s\"%s",
+                                        jsonPath,
+                                        resolveActualTypeName(val),
+                                        val == null ? "" : " (" + formatter.format(val) + ")"));
                           }
                           return ((CharSequence) val).toString();
                         })));
@@ -106,25 +540,31 @@ public interface JsonAssured {
     JsonPathAssertions intPath(
         @Language("jsonpath") String jsonPath,
         ThrowingConsumer<JsonNumberAssertions<Integer>> consumer) {
-      return InternalUtils.sneakyGet(
+      return check(
+          "intPath",
+          jsonPath,
           () -> {
             consumer.accept(
                 new JsonNumberAssertions<>(
                     jsonPath,
                     "Int number",
                     0,
+                    formatter,
                     new MemoizedSupplier<>(
                         () -> {
-                          var val = contextSupplier.get().read(jsonPath, Object.class);
+                          var val = read(jsonPath);
                           if (val instanceof Integer) {
                             return (Integer) val;
                           }
-                          throw new AssertionError(
-                              String.format(
-                                  "Expected type Integer at path \"%s\", but actual type was \"%s\"%s",
-                                  jsonPath,
-                                  resolveActualTypeName(val),
-                                  val == null ? "" : String.format(": <%s>", val)));
+                          throw new JsonAssertionError(
+                              () ->
+                                  String.format(
+                                      "Expected type Integer at path \"%s\", but actual type was \"%s\"%s",
+                                      jsonPath,
+                                      resolveActualTypeName(val),
+                                      val == null
+                                          ? ""
+                                          : String.format(": <%s>", formatter.format(val))));
                         })));
             return this;
           });
@@ -133,27 +573,33 @@ public interface JsonAssured {
     JsonPathAssertions longPath(
         @Language("jsonpath") String jsonPath,
         ThrowingConsumer<JsonNumberAssertions<Long>> consumer) {
-      return InternalUtils.sneakyGet(
+      return check(
+          "longPath",
+          jsonPath,
           () -> {
             consumer.accept(
                 new JsonNumberAssertions<>(
                     jsonPath,
                     "Long number",
                     0L,
+                    formatter,
                     new MemoizedSupplier<>(
                         () -> {
-                          var val = contextSupplier.get().read(jsonPath, Object.class);
+                          var val = read(jsonPath);
                           if (val instanceof Long) {
                             return (Long) val;
                           } else if (val instanceof Integer) {
                             return ((Integer) val).longValue();
                           }
-                          throw new AssertionError(
-                              String.format(
-                                  "Expected type Long at path \"%s\", but actual type was \"%s\"%s",
-                                  jsonPath,
-                                  resolveActualTypeName(val),
-                                  val == null ? "" : String.format(": <%s>", val)));
+                          throw new JsonAssertionError(
+                              () ->
+                                  String.format(
+                                      "Expected type Long at path \"%s\", but actual type was \"%s\"%s",
+                                      jsonPath,
+                                      resolveActualTypeName(val),
+                                      val == null
+                                          ? ""
+                                          : String.format(": <%s>", formatter.format(val))));
                         })));
             return this;
           });
@@ -162,27 +608,33 @@ public interface JsonAssured {
     JsonPathAssertions decimalPath(
         @Language("jsonpath") String jsonPath,
         ThrowingConsumer<JsonNumberAssertions<BigDecimal>> consumer) {
-      return InternalUtils.sneakyGet(
+      return check(
+          "decimalPath",
+          jsonPath,
           () -> {
             consumer.accept(
                 new JsonNumberAssertions<>(
                     jsonPath,
                     "Decimal number",
                     BigDecimal.ZERO,
+                    formatter,
                     new MemoizedSupplier<>(
                         () -> {
-                          var val = contextSupplier.get().read(jsonPath, Object.class);
+                          var val = read(jsonPath);
                           if (val instanceof Double) {
                             return BigDecimal.valueOf((Double) val);
                           } else if (val instanceof BigDecimal) {
                             return (BigDecimal) val;
                           }
-                          throw new AssertionError(
-                              String.format(
-                                  "Expected type Decimal at path \"%s\", but actual type was \"%s\"%s",
-                                  jsonPath,
-                                  resolveActualTypeName(val),
-                                  val == null ? "" : String.format(": <%s>", val)));
+                          throw new JsonAssertionError(
+                              () ->
+                                  String.format(
+                                      "Expected type Decimal at path \"%s\", but actual type was \"%s\"%s",
+                                      jsonPath,
+                                      resolveActualTypeName(val),
+                                      val == null
+                                          ? ""
+                                          : String.format(": <%s>", formatter.format(val))));
                         })));
             return this;
           });
@@ -191,31 +643,33 @@ public interface JsonAssured {
     JsonPathAssertions stringArrayPath(
         @Language("jsonpath") String jsonPath,
         ThrowingConsumer<JsonStringArrayAssertions> consumer) {
-      return InternalUtils.sneakyGet(
+      Function<Object, String> mapper =
+          item -> {
+            if (item instanceof CharSequence) {
+              return ((CharSequence) item).toString();
+            } else {
+              throw new JsonAssertionError(
+                  String.format(
+                      "Expected string array type at path \"%s\", but actual type of value in array was \"%s\"",
+                      jsonPath, resolveActualTypeName(item)));
+            }
+          };
+      Function<@Nullable Object, AssertionError> onError =
+          val ->
+              new JsonAssertionError(
+                  String.format(
+                      "Expected string array type at path \"%s\", but actual type was \"%s\"",
+                      jsonPath, resolveActualTypeName(val)));
+      return check(
+          "stringArrayPath",
+          jsonPath,
           () -> {
             consumer.accept(
                 new JsonStringArrayAssertions(
                     jsonPath,
-                    new MemoizedSupplier<>(
-                        () ->
-                            InternalUtils.objectToList(
-                                contextSupplier.get().read(jsonPath, Object.class),
-                                item -> {
-                                  if (item instanceof CharSequence) {
-                                    return ((CharSequence) item).toString();
-                                  } else {
-                                    throw new AssertionError(
-                                        String.format(
-                                            "Expected string array type at path \"%s\", but actual type of value in array was \"%s\"",
-                                            jsonPath, resolveActualTypeName(item)));
-                                  }
-                                },
-                                val -> {
-                                  throw new AssertionError(
-                                      String.format(
-                                          "Expected string array type at path \"%s\", but actual type was \"%s\"",
-                                          jsonPath, resolveActualTypeName(val)));
-                                }))));
+                    formatter,
+                    arraySupplier(jsonPath, mapper, onError),
+                    lazyElements(jsonPath, mapper, onError)));
             return this;
           });
     }
@@ -223,32 +677,34 @@ public interface JsonAssured {
     JsonPathAssertions intArrayPath(
         @Language("jsonpath") String jsonPath,
         ThrowingConsumer<JsonNumberArrayAssertions<Integer>> consumer) {
-      return InternalUtils.sneakyGet(
+      Function<Object, Integer> mapper =
+          item -> {
+            if (item instanceof Integer) {
+              return (Integer) item;
+            } else {
+              throw new JsonAssertionError(
+                  String.format(
+                      "Expected int array type at path \"%s\", but actual type of value in array was \"%s\"",
+                      jsonPath, resolveActualTypeName(item)));
+            }
+          };
+      Function<@Nullable Object, AssertionError> onError =
+          val ->
+              new JsonAssertionError(
+                  String.format(
+                      "Expected int array type at path \"%s\", but actual type was \"%s\"",
+                      jsonPath, resolveActualTypeName(val)));
+      return check(
+          "intArrayPath",
+          jsonPath,
           () -> {
             consumer.accept(
-                new JsonNumberArrayAssertions<Integer>(
+                new JsonNumberArrayAssertions<>(
                     jsonPath,
+                    formatter,
                     "Int",
-                    new MemoizedSupplier<>(
-                        () ->
-                            InternalUtils.objectToList(
-                                contextSupplier.get().read(jsonPath, Object.class),
-                                item -> {
-                                  if (item instanceof Integer) {
-                                    return ((Integer) item);
-                                  } else {
-                                    throw new AssertionError(
-                                        String.format(
-                                            "Expected int array type at path \"%s\", but actual type of value in array was \"%s\"",
-                                            jsonPath, resolveActualTypeName(item)));
-                                  }
-                                },
-                                val -> {
-                                  throw new AssertionError(
-                                      String.format(
-                                          "Expected int array type at path \"%s\", but actual type was \"%s\"",
-                                          jsonPath, resolveActualTypeName(val)));
-                                }))));
+                    arraySupplier(jsonPath, mapper, onError),
+                    lazyElements(jsonPath, mapper, onError)));
             return this;
           });
     }
@@ -256,34 +712,36 @@ public interface JsonAssured {
     JsonPathAssertions longArrayPath(
         @Language("jsonpath") String jsonPath,
         ThrowingConsumer<JsonNumberArrayAssertions<Long>> consumer) {
-      return InternalUtils.sneakyGet(
+      Function<Object, Long> mapper =
+          item -> {
+            if (item instanceof Long) {
+              return (Long) item;
+            } else if (item instanceof Integer) {
+              return ((Integer) item).longValue();
+            } else {
+              throw new JsonAssertionError(
+                  String.format(
+                      "Expected long array type at path \"%s\", but actual type of value in array was \"%s\"",
+                      jsonPath, resolveActualTypeName(item)));
+            }
+          };
+      Function<@Nullable Object, AssertionError> onError =
+          val ->
+              new JsonAssertionError(
+                  String.format(
+                      "Expected long array type at path \"%s\", but actual type was \"%s\"",
+                      jsonPath, resolveActualTypeName(val)));
+      return check(
+          "longArrayPath",
+          jsonPath,
           () -> {
             consumer.accept(
-                new JsonNumberArrayAssertions<Long>(
+                new JsonNumberArrayAssertions<>(
                     jsonPath,
+                    formatter,
                     "Long",
-                    new MemoizedSupplier<>(
-                        () ->
-                            InternalUtils.objectToList(
-                                contextSupplier.get().read(jsonPath, Object.class),
-                                item -> {
-                                  if (item instanceof Long) {
-                                    return ((Long) item);
-                                  } else if (item instanceof Integer) {
-                                    return ((Integer) item).longValue();
-                                  } else {
-                                    throw new AssertionError(
-                                        String.format(
-                                            "Expected long array type at path \"%s\", but actual type of value in array was \"%s\"",
-                                            jsonPath, resolveActualTypeName(item)));
-                                  }
-                                },
-                                val -> {
-                                  throw new AssertionError(
-                                      String.format(
-                                          "Expected long array type at path \"%s\", but actual type was \"%s\"",
-                                          jsonPath, resolveActualTypeName(val)));
-                                }))));
+                    arraySupplier(jsonPath, mapper, onError),
+                    lazyElements(jsonPath, mapper, onError)));
             return this;
           });
     }
@@ -291,110 +749,358 @@ public interface JsonAssured {
     JsonPathAssertions decimalArrayPath(
         @Language("jsonpath") String jsonPath,
         ThrowingConsumer<JsonNumberArrayAssertions<BigDecimal>> consumer) {
-      return InternalUtils.sneakyGet(
+      Function<Object, BigDecimal> mapper =
+          item -> {
+            if (item instanceof BigDecimal) {
+              return (BigDecimal) item;
+            } else if (item instanceof Double) {
+              return BigDecimal.valueOf((Double) item);
+            } else {
+              throw new JsonAssertionError(
+                  String.format(
+                      "Expected decimal array type at path \"%s\", but actual type of value in array was \"%s\"",
+                      jsonPath, resolveActualTypeName(item)));
+            }
+          };
+      Function<@Nullable Object, AssertionError> onError =
+          val ->
+              new JsonAssertionError(
+                  String.format(
+                      "Expected decimal array type at path \"%s\", but actual type was \"%s\"",
+                      jsonPath, resolveActualTypeName(val)));
+      return check(
+          "decimalArrayPath",
+          jsonPath,
           () -> {
             consumer.accept(
-                new JsonNumberArrayAssertions<BigDecimal>(
+                new JsonNumberArrayAssertions<>(
                     jsonPath,
+                    formatter,
                     "Decimal",
-                    new MemoizedSupplier<>(
-                        () ->
-                            InternalUtils.objectToList(
-                                contextSupplier.get().read(jsonPath, Object.class),
-                                item -> {
-                                  if (item instanceof BigDecimal) {
-                                    return ((BigDecimal) item);
-                                  } else if (item instanceof Double) {
-                                    return BigDecimal.valueOf((Double) item);
-                                  } else {
-                                    throw new AssertionError(
-                                        String.format(
-                                            "Expected decimal array type at path \"%s\", but actual type of value in array was \"%s\"",
-                                            jsonPath, resolveActualTypeName(item)));
-                                  }
-                                },
-                                val -> {
-                                  throw new AssertionError(
-                                      String.format(
-                                          "Expected decimal array type at path \"%s\", but actual type was \"%s\"",
-                                          jsonPath, resolveActualTypeName(val)));
-                                }))));
+                    arraySupplier(jsonPath, mapper, onError),
+                    lazyElements(jsonPath, mapper, onError)));
+            return this;
+          });
+    }
+
+    JsonPathAssertions objectArrayPath(
+        @Language("jsonpath") String jsonPath,
+        ThrowingConsumer<JsonObjectArrayAssertions> consumer) {
+      return check(
+          "objectArrayPath",
+          jsonPath,
+          () -> {
+            consumer.accept(objectArrayAssertions(jsonPath));
+            return this;
+          });
+    }
+
+    JsonPathAssertions objectArrayPath(
+        @Language("jsonpath") String jsonPath,
+        ThrowingIndexedConsumer<JsonPathAssertions> elementConsumer) {
+      return check(
+          "objectArrayPath",
+          jsonPath,
+          () -> {
+            objectArrayAssertions(jsonPath).elementsSatisfy(elementConsumer);
+            return this;
+          });
+    }
+
+    private JsonObjectArrayAssertions objectArrayAssertions(String jsonPath) {
+      Function<Object, Object> mapper =
+          item -> {
+            if (item instanceof Map<?, ?>) {
+              return item;
+            } else {
+              throw new JsonAssertionError(
+                  String.format(
+                      "Expected object array type at path \"%s\", but actual type of value in array was \"%s\"",
+                      jsonPath, resolveActualTypeName(item)));
+            }
+          };
+      Function<@Nullable Object, AssertionError> onError =
+          val ->
+              new JsonAssertionError(
+                  String.format(
+                      "Expected object array type at path \"%s\", but actual type was \"%s\"",
+                      jsonPath, resolveActualTypeName(val)));
+      return new JsonObjectArrayAssertions(
+          jsonPath,
+          formatter,
+          listener,
+          arraySupplier(jsonPath, mapper, onError),
+          lazyElements(jsonPath, mapper, onError));
+    }
+
+    private <E> MemoizedSupplier<List<E>> arraySupplier(
+        String jsonPath,
+        Function<Object, E> mapper,
+        Function<@Nullable Object, AssertionError> onError) {
+      return new MemoizedSupplier<>(
+          () -> InternalUtils.objectToList(read(jsonPath), mapper, onError));
+    }
+
+    private <E> Supplier<Iterator<E>> lazyElements(
+        String jsonPath,
+        Function<Object, E> mapper,
+        Function<@Nullable Object, AssertionError> onError) {
+      return () -> {
+        var stream = JsonPathStream.compile(jsonPath);
+        Iterator<?> source;
+        if (stream != null) {
+          source = observe(jsonPath, context -> stream.iterator(context.json()));
+        } else {
+          var val = read(jsonPath);
+          if (!(val instanceof Iterable<?>)) {
+            throw onError.apply(val);
+          }
+          source = ((Iterable<?>) val).iterator();
+        }
+        return InternalUtils.mappingIterator(source, mapper);
+      };
+    }
+
+    JsonPathAssertions isEqualToJson(
+        @Language("jsonpath") String jsonPath,
+        @Language("json") String expectedJson,
+        JsonCompareOption... options) {
+      return check(
+          "isEqualToJson",
+          jsonPath,
+          () -> {
+            InternalUtils.expectedNotNull(expectedJson, "Expected JSON");
+            var ignoreArrayOrder = false;
+            var ignoreExtraFields = false;
+            for (var option : options) {
+              if (option == JsonCompareOption.IGNORING_ARRAY_ORDER) {
+                ignoreArrayOrder = true;
+              } else if (option == JsonCompareOption.IGNORING_EXTRA_FIELDS) {
+                ignoreExtraFields = true;
+              }
+            }
+            var expected = JsonPath.parse(expectedJson).json();
+            var actual = readVal(jsonPath);
+            var differences =
+                JsonTreeDiff.diff(
+                    jsonPath, expected, actual, ignoreArrayOrder, ignoreExtraFields, formatter);
+            if (differences.isEmpty()) {
+              return this;
+            }
+            throw new JsonAssertionError(
+                String.format(
+                    "JSON at path \"%s\" is not equal to expected JSON, found %d difference(s):%n%s",
+                    jsonPath, differences.size(), InternalUtils.formatDifferences(differences)));
+          });
+    }
+
+    JsonPathAssertions relation(
+        @Language("jsonpath") String leftPath,
+        @Language("jsonpath") String rightPath,
+        JsonRelation relation) {
+      return relation(JsonOperand.value(leftPath), JsonOperand.value(rightPath), relation);
+    }
+
+    JsonPathAssertions relation(JsonOperand left, JsonOperand right, JsonRelation relation) {
+      return check(
+          "relation",
+          left,
+          relation,
+          right,
+          () -> {
+            InternalUtils.expectedNotNull(left, "Left operand");
+            InternalUtils.expectedNotNull(right, "Right operand");
+            InternalUtils.expectedNotNull(relation, "Relation");
+            var leftVal = observe(left.toString(), left::resolve);
+            var rightVal = observe(right.toString(), right::resolve);
+            boolean matches;
+            if (leftVal instanceof Number && rightVal instanceof Number) {
+              matches = relation.test(JsonAggregates.compare((Number) leftVal, (Number) rightVal));
+            } else if (relation.isOrdering()) {
+              throw new JsonAssertionError(
+                  String.format(
+                      "Expected number values to check that %s is %s %s, but actual types were \"%s\" and \"%s\"",
+                      left,
+                      relation,
+                      right,
+                      resolveActualTypeName(leftVal),
+                      resolveActualTypeName(rightVal)));
+            } else {
+              matches =
+                  JsonNodes.deepEquals(leftVal, rightVal, false, new IdentityHashMap<>())
+                      == (relation == JsonRelation.EQUAL);
+            }
+            if (matches) {
+              return this;
+            }
+            throw new JsonAssertionError(
+                () ->
+                    String.format(
+                        "Expected %s to be %s %s, but %s was <%s> and %s was <%s>",
+                        left,
+                        relation,
+                        right,
+                        left,
+                        formatter.formatJson(leftVal),
+                        right,
+                        formatter.formatJson(rightVal)));
+          });
+    }
+
+    JsonPathAssertions matchesSchema(@Language("json") String schema) {
+      return matchesSchemaAt("$", schema);
+    }
+
+    JsonPathAssertions matchesSchemaAt(
+        @Language("jsonpath") String jsonPath, @Language("json") String schema) {
+      return check(
+          "matchesSchemaAt",
+          jsonPath,
+          () -> {
+            InternalUtils.expectedNotNull(schema, "Schema");
+            var validator = JsonSchemaValidator.compile(schema);
+            var violations = validator.validate(readVal(jsonPath), jsonPath);
+            if (violations.isEmpty()) {
+              return this;
+            }
+            throw new JsonAssertionError(
+                String.format(
+                    "JSON at path \"%s\" does not match schema, found %d violation(s):%n%s",
+                    jsonPath, violations.size(), InternalUtils.formatDifferences(violations)));
+          });
+    }
+
+    JsonPathAssertions matchesSnapshot(Path snapshotFile) {
+      return check(
+          "matchesSnapshot",
+          snapshotFile,
+          () -> {
+            InternalUtils.expectedNotNull(snapshotFile, "Snapshot file");
+            JsonSnapshots.assertMatches(contextSupplier.get().json(), snapshotFile, formatter);
             return this;
           });
     }
 
     JsonPathAssertions doesNotExist(@Language("jsonpath") String jsonPath) {
-      try {
-        var val = readVal(jsonPath);
-        throw new AssertionError(
-            String.format(
-                "Expected value at path \"%s\" to be absent, but found <%s>", jsonPath, val));
-      } catch (PathNotFoundException ignored) {
-        return this;
-      }
+      return check(
+          "doesNotExist",
+          jsonPath,
+          () -> {
+            try {
+              var val = readVal(jsonPath);
+              throw new JsonAssertionError(
+                  () ->
+                      String.format(
+                          "Expected value at path \"%s\" to be absent, but found <%s>",
+                          jsonPath, formatter.format(val)));
+            } catch (PathNotFoundException ignored) {
+              return this;
+            }
+          });
     }
 
     JsonPathAssertions isTrue(@Language("jsonpath") String jsonPath) {
-      var val = contextSupplier.get().read(jsonPath, Object.class);
-      if (val instanceof Boolean && (Boolean) val) {
-        return this;
-      }
-      throw new AssertionError(
-          String.format(
-              "Expected value at path \"%s\" to be true, but actual value was %s", jsonPath, val));
+      return check(
+          "isTrue",
+          jsonPath,
+          () -> {
+            var val = read(jsonPath);
+            if (val instanceof Boolean && (Boolean) val) {
+              return this;
+            }
+            throw new JsonAssertionError(
+                () ->
+                    String.format(
+                        "Expected value at path \"%s\" to be true, but actual value was %s",
+                        jsonPath, formatter.format(val)));
+          });
     }
 
     JsonPathAssertions isFalse(@Language("jsonpath") String jsonPath) {
-      var val = contextSupplier.get().read(jsonPath, Object.class);
-      if (val instanceof Boolean && !((Boolean) val)) {
-        return this;
-      }
-      throw new AssertionError(
-          String.format(
-              "Expected value at path \"%s\" to be false, but actual value was %s", jsonPath, val));
+      return check(
+          "isFalse",
+          jsonPath,
+          () -> {
+            var val = read(jsonPath);
+            if (val instanceof Boolean && !((Boolean) val)) {
+              return this;
+            }
+            throw new JsonAssertionError(
+                () ->
+                    String.format(
+                        "Expected value at path \"%s\" to be false, but actual value was %s",
+                        jsonPath, formatter.format(val)));
+          });
     }
 
     JsonPathAssertions isNull(@Language("jsonpath") String jsonPath) {
-      var val = readVal(jsonPath);
-      if (val == null) {
-        return this;
-      }
-      throw new AssertionError(
-          String.format(
-              "Expected value at path \"%s\" to be null, but actual value was <%s>",
-              jsonPath, val));
+      return check(
+          "isNull",
+          jsonPath,
+          () -> {
+            var val = readVal(jsonPath);
+            if (val == null) {
+              return this;
+            }
+            throw new JsonAssertionError(
+                () ->
+                    String.format(
+                        "Expected value at path \"%s\" to be null, but actual value was <%s>",
+                        jsonPath, formatter.format(val)));
+          });
     }
 
     JsonPathAssertions isNotNull(@Language("jsonpath") String jsonPath) {
-      if (readVal(jsonPath) != null) {
-        return this;
-      }
-      throw new AssertionError(
-          String.format(
-              "Expected value at path \"%s\" to be non-null, but actual value was null", jsonPath));
+      return check(
+          "isNotNull",
+          jsonPath,
+          () -> {
+            if (readVal(jsonPath) != null) {
+              return this;
+            }
+            throw new JsonAssertionError(
+                String.format(
+                    "Expected value at path \"%s\" to be non-null, but actual value was null",
+                    jsonPath));
+          });
     }
 
     JsonPathAssertions isEqual(@Language("jsonpath") String jsonPath, CharSequence expected) {
-      if (expected == null) {
-        throw new IllegalArgumentException(
-            "\"null\" expected values are not supported. Consider using `JsonPathAssertions#isNull()` instead");
-      }
-      var actual = readVal(jsonPath);
-      if (actual instanceof CharSequence) {
-        var expectedStr = expected.toString();
-        if (actual.equals(expectedStr)) {
-          return this;
-        } else {
-          throw new AssertionError(
-              String.format(
-                  "String value at path \"%s\" are not equal: %s",
-                  jsonPath, InternalUtils.formatActualExpected(actual, expectedStr)));
-        }
-      }
-      throw new AssertionError(
-          String.format(
-              "Expected value of type string at path \"%s\", but actual type was \"%s\"%s",
-              jsonPath, resolveActualTypeName(actual), actual == null ? "" : " (" + actual + ")"));
+      return check(
+          "isEqual",
+          jsonPath,
+          () -> {
+            if (expected == null) {
+              throw new IllegalArgumentException(
+                  "\"null\" expected values are not supported. Consider using `JsonPathAssertions#isNull()` instead");
+            }
+            if (rawScanner != null
+                && rawScanner.sliceEquals(rawScanner.findString(jsonPath), expected)) {
+              return this;
+            }
+            var actual = readVal(jsonPath);
+            if (actual instanceof CharSequence) {
+              var expectedStr = expected.toString();
+              if (actual.equals(expectedStr)) {
+                return this;
+              } else {
+                throw new JsonAssertionError(
+                    () ->
+                        String.format(
+                            "String value at path \"%s\" are not equal: %s",
+                            jsonPath,
+                            InternalUtils.formatActualExpected(
+                                formatter.format(actual), formatter.format(expectedStr))));
+              }
+            }
+            throw new JsonAssertionError(
+                () ->
+                    String.format(
+                        "Expected value of type string at path \"%s\", but actual type was \"%s\"%s",
+                        jsonPath,
+                        resolveActualTypeName(actual),
+                        actual == null ? "" : " (" + formatter.format(actual) + ")"));
+          });
     }
   }
 
@@ -404,11 +1110,18 @@ public interface JsonAssured {
     private final String typeName;
     private final MemoizedSupplier<N> numberSupplier;
     private final N zero;
-
-    JsonNumberAssertions(String path, String typeName, N zero, MemoizedSupplier<N> numberSupplier) {
+    private final ValueFormatter formatter;
+
+    JsonNumberAssertions(
+        String path,
+        String typeName,
+        N zero,
+        ValueFormatter formatter,
+        MemoizedSupplier<N> numberSupplier) {
       this.path = path;
       this.typeName = typeName;
       this.zero = zero;
+      this.formatter = formatter;
       this.numberSupplier = numberSupplier;
     }
 
@@ -417,7 +1130,7 @@ public interface JsonAssured {
       if (actualNum.compareTo(zero) > 0) {
         return this;
       }
-      throw new AssertionError(
+      throw new JsonAssertionError(
           String.format(
               "Expected %s at path \"%s\" to be positive, but actual value was <%s>",
               typeName, path, actualNum));
@@ -428,7 +1141,7 @@ public interface JsonAssured {
       if (actualNum.compareTo(zero) < 0) {
         return this;
       }
-      throw new AssertionError(
+      throw new JsonAssertionError(
           String.format(
               "Expected %s at path \"%s\" to be negative, but actual value was <%s>",
               typeName, path, actualNum.equals(zero) ? zero : actualNum));
@@ -439,7 +1152,7 @@ public interface JsonAssured {
       if (actualNum.compareTo(zero) == 0) {
         return this;
       }
-      throw new AssertionError(
+      throw new JsonAssertionError(
           String.format(
               "Expected %s at path \"%s\" to be zero, but actual value was <%s>",
               typeName, path, actualNum));
@@ -451,7 +1164,7 @@ public interface JsonAssured {
       if (actualNum.equals(expected)) {
         return this;
       }
-      throw new AssertionError(
+      throw new JsonAssertionError(
           String.format(
               "Expected %s at path \"%s\" to be equal <%s>, but actual value was <%s>",
               typeName, path, expected, actualNum));
@@ -463,7 +1176,7 @@ public interface JsonAssured {
       if (!actualNum.equals(expected)) {
         return this;
       }
-      throw new AssertionError(
+      throw new JsonAssertionError(
           String.format(
               "Expected %s at path \"%s\" to not be equal <%s>, but were equal",
               typeName, path, expected));
@@ -475,7 +1188,7 @@ public interface JsonAssured {
       if (actualNum.compareTo(expected) >= 0) {
         return this;
       }
-      throw new AssertionError(
+      throw new JsonAssertionError(
           String.format(
               "Expected %s at path \"%s\" to be greater than or equal to <%s>, but was <%s>",
               typeName, path, expected, actualNum));
@@ -487,7 +1200,7 @@ public interface JsonAssured {
       if (actualNum.compareTo(expected) <= 0) {
         return this;
       }
-      throw new AssertionError(
+      throw new JsonAssertionError(
           String.format(
               "Expected %s at path \"%s\" to be less than or equal to <%s>, but was <%s>",
               typeName, path, expected, actualNum));
@@ -506,7 +1219,7 @@ public interface JsonAssured {
       if (actualNum.compareTo(min) >= 0 && actualNum.compareTo(max) <= 0) {
         return this;
       }
-      throw new AssertionError(
+      throw new JsonAssertionError(
           String.format(
               "Expected %s at path \"%s\" to be in range [%s - %s], but was <%s>",
               typeName, path, min, max, actualNum));
@@ -521,10 +1234,11 @@ public interface JsonAssured {
           return this;
         }
       }
-      throw new AssertionError(
-          String.format(
-              "%s at path \"%s\" is not in the list of expected values. Actual value: <%s>, list of expected values: %s",
-              typeName, path, actualNum, expectedNums));
+      throw new JsonAssertionError(
+          () ->
+              String.format(
+                  "%s at path \"%s\" is not in the list of expected values. Actual value: <%s>, list of expected values: %s",
+                  typeName, path, actualNum, formatter.format(expectedNums)));
     }
 
     public JsonNumberAssertions<N> isNotIn(Iterable<N> expected) {
@@ -534,10 +1248,12 @@ public interface JsonAssured {
       var counter = 0;
       for (var expectedNum : expectedNums) {
         if (expectedNum.equals(actualNum)) {
-          throw new AssertionError(
-              String.format(
-                  "%s value at path \"%s\" was found in provided list at index [%d]. Actual value: <%s>, list of values: <%s>",
-                  typeName, path, counter, actualNum, expectedNums));
+          var index = counter;
+          throw new JsonAssertionError(
+              () ->
+                  String.format(
+                      "%s value at path \"%s\" was found in provided list at index [%d]. Actual value: <%s>, list of values: <%s>",
+                      typeName, path, index, actualNum, formatter.format(expectedNums)));
         }
         counter++;
       }
@@ -548,39 +1264,87 @@ public interface JsonAssured {
       InternalUtils.expectedNotNull(consumer, "Consumer");
       return InternalUtils.satisfies(consumer, numberSupplier, this, typeName, path);
     }
+
+    public JsonNumberAssertions<N> matches(Predicate<? super N> predicate) {
+      InternalUtils.expectedNotNull(predicate, "Predicate");
+      var actualNum = numberSupplier.get();
+      if (predicate.test(actualNum)) {
+        return this;
+      }
+      throw new JsonAssertionError(
+          () ->
+              String.format(
+                  "Expected %s at path \"%s\" to match provided predicate, but actual value was <%s>",
+                  typeName, path, actualNum));
+    }
+
+    public JsonNumberAssertions<N> matchesInt(IntPredicate predicate) {
+      InternalUtils.expectedNotNull(predicate, "Predicate");
+      if (!(zero instanceof Integer)) {
+        throw new IllegalStateException(
+            String.format("IntPredicate cannot be applied to %s values", typeName));
+      }
+      return matches(actualNum -> predicate.test(actualNum.intValue()));
+    }
+
+    public JsonNumberAssertions<N> matchesLong(LongPredicate predicate) {
+      InternalUtils.expectedNotNull(predicate, "Predicate");
+      if (!(zero instanceof Integer || zero instanceof Long)) {
+        throw new IllegalStateException(
+            String.format("LongPredicate cannot be applied to %s values", typeName));
+      }
+      return matches(actualNum -> predicate.test(actualNum.longValue()));
+    }
   }
 
   final class JsonStringAssertions {
 
     private final String path;
 
+    @Nullable private final RawJsonScanner rawScanner;
+
+    private final ValueFormatter formatter;
+
     private final MemoizedSupplier<String> stringSupplier;
 
-    JsonStringAssertions(String path, MemoizedSupplier<String> stringSupplier) {
+    JsonStringAssertions(
+        String path,
+        @Nullable RawJsonScanner rawScanner,
+        ValueFormatter formatter,
+        MemoizedSupplier<String> stringSupplier) {
       this.path = path;
+      this.rawScanner = rawScanner;
+      this.formatter = formatter;
       this.stringSupplier = stringSupplier;
     }
 
     public JsonStringAssertions isEqualTo(CharSequence expected) {
+      if (rawScanner != null && rawScanner.sliceEquals(rawScanner.findString(path), expected)) {
+        return this;
+      }
       var actual = stringSupplier.get();
       var expectedStr = expected.toString();
       if (actual.equals(expectedStr)) {
         return this;
       }
-      throw new AssertionError(
-          String.format(
-              "String value at path \"%s\" is not equal to expected: %s",
-              path, InternalUtils.formatActualExpected(actual, expectedStr)));
+      throw new JsonAssertionError(
+          () ->
+              String.format(
+                  "String value at path \"%s\" is not equal to expected: %s",
+                  path,
+                  InternalUtils.formatActualExpected(
+                      formatter.format(actual), formatter.format(expectedStr))));
     }
 
     public JsonStringAssertions isNotEqualTo(CharSequence expected) {
       if (!stringSupplier.get().equals(expected.toString())) {
         return this;
       }
-      throw new AssertionError(
-          String.format(
-              "String value at path \"%s\" is equal to <%s>, while expected to be not equal",
-              path, expected));
+      throw new JsonAssertionError(
+          () ->
+              String.format(
+                  "String value at path \"%s\" is equal to <%s>, while expected to be not equal",
+                  path, formatter.format(expected)));
     }
 
     public JsonStringAssertions isEqualToIgnoringCase(CharSequence expected) {
@@ -589,10 +1353,13 @@ public interface JsonAssured {
       if (actualString.equalsIgnoreCase(expectedString)) {
         return this;
       }
-      throw new AssertionError(
-          String.format(
-              "String value at path \"%s\" is not equal to expected (ignoring case): %s",
-              path, InternalUtils.formatActualExpected(actualString, expectedString)));
+      throw new JsonAssertionError(
+          () ->
+              String.format(
+                  "String value at path \"%s\" is not equal to expected (ignoring case): %s",
+                  path,
+                  InternalUtils.formatActualExpected(
+                      formatter.format(actualString), formatter.format(expectedString))));
     }
 
     public JsonStringAssertions isNotEqualToIgnoringCase(CharSequence expected) {
@@ -601,19 +1368,21 @@ public interface JsonAssured {
       if (!actual.equalsIgnoreCase(expectedStr)) {
         return this;
       }
-      throw new AssertionError(
-          String.format(
-              "String value at path \"%s\" is equal to <%s> (ignoring case), while expected to be not equal",
-              path, expected));
+      throw new JsonAssertionError(
+          () ->
+              String.format(
+                  "String value at path \"%s\" is equal to <%s> (ignoring case), while expected to be not equal",
+                  path, formatter.format(expected)));
     }
 
     public JsonStringAssertions isNotBlank() {
       var subject = stringSupplier.get();
       if (subject.isBlank()) {
-        throw new AssertionError(
-            String.format(
-                "Expected string at path \"%s\" to be not blank, but actual value was \"%s\"",
-                path, subject));
+        throw new JsonAssertionError(
+            () ->
+                String.format(
+                    "Expected string at path \"%s\" to be not blank, but actual value was \"%s\"",
+                    path, formatter.format(subject)));
       }
       return this;
     }
@@ -621,10 +1390,11 @@ public interface JsonAssured {
     public JsonStringAssertions isBlank() {
       var subject = stringSupplier.get();
       if (!subject.isBlank()) {
-        throw new AssertionError(
-            String.format(
-                "Expected string at path \"%s\" to be blank, but actual value was \"%s\"",
-                path, subject));
+        throw new JsonAssertionError(
+            () ->
+                String.format(
+                    "Expected string at path \"%s\" to be blank, but actual value was \"%s\"",
+                    path, formatter.format(subject)));
       }
       return this;
     }
@@ -634,10 +1404,11 @@ public interface JsonAssured {
       if (subject.isEmpty()) {
         return this;
       }
-      throw new AssertionError(
-          String.format(
-              "Expected string at path \"%s\" to be empty, but actual value was <%s>",
-              path, subject));
+      throw new JsonAssertionError(
+          () ->
+              String.format(
+                  "Expected string at path \"%s\" to be empty, but actual value was <%s>",
+                  path, formatter.format(subject)));
     }
 
     public JsonStringAssertions isNotEmpty() {
@@ -645,7 +1416,7 @@ public interface JsonAssured {
       if (!subject.isEmpty()) {
         return this;
       }
-      throw new AssertionError(
+      throw new JsonAssertionError(
           String.format(
               "Expected string at path \"%s\" to be not empty, but actual value was empty", path));
     }
@@ -659,7 +1430,7 @@ public interface JsonAssured {
       if (actual == length) {
         return this;
       }
-      throw new AssertionError(
+      throw new JsonAssertionError(
           String.format(
               "Expected string at path \"%s\" to have length [%d], but actual length was [%d]",
               path, length, actual));
@@ -682,7 +1453,7 @@ public interface JsonAssured {
       if (actual.length() >= lengthMin && actual.length() <= lengthMax) {
         return this;
       }
-      throw new AssertionError(
+      throw new JsonAssertionError(
           String.format(
               "Expected string at path \"%s\" to be in range [%d - %d], but actual length was [%d]",
               path, lengthMin, lengthMax, actual.length()));
@@ -697,7 +1468,7 @@ public interface JsonAssured {
       if (actualLength >= lengthMin) {
         return this;
       }
-      throw new AssertionError(
+      throw new JsonAssertionError(
           String.format(
               "Expected string at path \"%s\" to have min length [%d], but actual length was [%d]",
               path, actualLength, lengthMin));
@@ -712,7 +1483,7 @@ public interface JsonAssured {
       if (actualLength <= lengthMax) {
         return this;
       }
-      throw new AssertionError(
+      throw new JsonAssertionError(
           String.format(
               "Expected string at path \"%s\" to have max length [%d], but actual length was [%d]",
               path, actualLength, lengthMax));
@@ -724,10 +1495,13 @@ public interface JsonAssured {
       if (actualStr.contains(expectedStr)) {
         return this;
       }
-      throw new AssertionError(
-          String.format(
-              "String value at path \"%s\" does not contain expected string: %s",
-              path, InternalUtils.formatActualExpected(actualStr, expected)));
+      throw new JsonAssertionError(
+          () ->
+              String.format(
+                  "String value at path \"%s\" does not contain expected string: %s",
+                  path,
+                  InternalUtils.formatActualExpected(
+                      formatter.format(actualStr), formatter.format(expected))));
     }
 
     public JsonStringAssertions containsIgnoringCase(CharSequence expected) {
@@ -737,32 +1511,83 @@ public interface JsonAssured {
       if (actualStr.toLowerCase().contains(expectedLower)) {
         return this;
       }
-      throw new AssertionError(
-          String.format(
-              "String value at path \"%s\" does not contain expected string (ignoring case): %s",
-              path, InternalUtils.formatActualExpected(actualStr, expectedStr)));
+      throw new JsonAssertionError(
+          () ->
+              String.format(
+                  "String value at path \"%s\" does not contain expected string (ignoring case): %s",
+                  path,
+                  InternalUtils.formatActualExpected(
+                      formatter.format(actualStr), formatter.format(expectedStr))));
     }
 
     public JsonStringAssertions matches(@Language("regexp") String pattern) {
       var actualStr = stringSupplier.get();
-      if (actualStr.matches(pattern)) {
+      if (StringFormats.pattern(pattern).matcher(actualStr).matches()) {
         return this;
       }
-      throw new AssertionError(
-          String.format(
-              "String value at path \"%s\" does not match expected pattern. Expected pattern: <%s>, actual value: <%s>",
-              path, pattern, actualStr));
+      throw new JsonAssertionError(
+          () ->
+              String.format(
+                  "String value at path \"%s\" does not match expected pattern. Expected pattern: <%s>, actual value: <%s>",
+                  path, pattern, formatter.format(actualStr)));
     }
 
     public JsonStringAssertions doesNotMatch(@Language("regexp") String pattern) {
       var actualStr = stringSupplier.get();
-      if (!actualStr.matches(pattern)) {
+      if (!StringFormats.pattern(pattern).matcher(actualStr).matches()) {
         return this;
       }
-      throw new AssertionError(
-          String.format(
-              "String value at path \"%s\" matches expected pattern, while expected to not match. Pattern: <%s>, actual value: <%s>",
-              path, pattern, actualStr));
+      throw new JsonAssertionError(
+          () ->
+              String.format(
+                  "String value at path \"%s\" matches expected pattern, while expected to not match. Pattern: <%s>, actual value: <%s>",
+                  path, pattern, formatter.format(actualStr)));
+    }
+
+    public JsonStringAssertions isIsoInstant() {
+      return hasFormat(StringFormats.isIsoInstant(stringSupplier.get()), "ISO-8601 instant");
+    }
+
+    public JsonStringAssertions isIsoDate() {
+      return hasFormat(StringFormats.isIsoDate(stringSupplier.get()), "ISO-8601 date");
+    }
+
+    public JsonStringAssertions isUuid() {
+      return hasFormat(StringFormats.isUuid(stringSupplier.get()), "UUID");
+    }
+
+    public JsonStringAssertions isBase64() {
+      return hasFormat(StringFormats.isBase64(stringSupplier.get()), "Base64");
+    }
+
+    public JsonStringAssertions isEmail() {
+      return hasFormat(StringFormats.isEmail(stringSupplier.get()), "email");
+    }
+
+    public JsonStringAssertions isDateTime(DateTimeFormatter formatter) {
+      InternalUtils.expectedNotNull(formatter, "Formatter");
+      return hasFormat(
+          StringFormats.isDateTime(stringSupplier.get(), formatter),
+          "date-time for provided formatter");
+    }
+
+    public JsonStringAssertions isDateTime(String pattern) {
+      InternalUtils.expectedNotNull(pattern, "Pattern");
+      return hasFormat(
+          StringFormats.isDateTime(stringSupplier.get(), StringFormats.formatter(pattern)),
+          "date-time with pattern \"" + pattern + "\"");
+    }
+
+    private JsonStringAssertions hasFormat(boolean valid, String format) {
+      if (valid) {
+        return this;
+      }
+      var actual = stringSupplier.get();
+      throw new JsonAssertionError(
+          () ->
+              String.format(
+                  "Expected string at path \"%s\" to be a valid %s, but actual value was <%s>",
+                  path, format, formatter.format(actual)));
     }
 
     public JsonStringAssertions isIn(Iterable<? extends CharSequence> expected) {
@@ -773,10 +1598,11 @@ public interface JsonAssured {
           return this;
         }
       }
-      throw new AssertionError(
-          String.format(
-              "String value at path \"%s\" is not in the list of expected values. Actual value: <%s>, list of expected values: <%s>",
-              path, actualStr, expectedStrings));
+      throw new JsonAssertionError(
+          () ->
+              String.format(
+                  "String value at path \"%s\" is not in the list of expected values. Actual value: <%s>, list of expected values: <%s>",
+                  path, formatter.format(actualStr), formatter.format(expectedStrings)));
     }
 
     public JsonStringAssertions isNotIn(Iterable<? extends CharSequence> expected) {
@@ -785,10 +1611,12 @@ public interface JsonAssured {
       var counter = 0;
       for (var expectedStr : expectedStrings) {
         if (expectedStr.equals(actualStr)) {
-          throw new AssertionError(
-              String.format(
-                  "String value at path \"%s\" was found in provided list at index [%d]. Actual value: <%s>, list of values: <%s>",
-                  path, counter, actualStr, expectedStrings));
+          var index = counter;
+          throw new JsonAssertionError(
+              () ->
+                  String.format(
+                      "String value at path \"%s\" was found in provided list at index [%d]. Actual value: <%s>, list of values: <%s>",
+                      path, index, formatter.format(actualStr), formatter.format(expectedStrings)));
         }
         counter++;
       }
@@ -799,19 +1627,40 @@ public interface JsonAssured {
       InternalUtils.expectedNotNull(consumer, "Consumer");
       return InternalUtils.satisfies(consumer, stringSupplier, this, "String", path);
     }
+
+    public JsonStringAssertions matches(Predicate<? super String> predicate) {
+      InternalUtils.expectedNotNull(predicate, "Predicate");
+      var actualStr = stringSupplier.get();
+      if (predicate.test(actualStr)) {
+        return this;
+      }
+      throw new JsonAssertionError(
+          () ->
+              String.format(
+                  "String value at path \"%s\" does not match provided predicate, actual value: <%s>",
+                  path, formatter.format(actualStr)));
+    }
   }
 
   final class JsonNumberArrayAssertions<N extends Number & Comparable<N>> {
 
     private final String path;
+    private final ValueFormatter formatter;
     private final String arrayType;
     private final MemoizedSupplier<List<N>> numbersSupplier;
+    private final Supplier<Iterator<N>> elementsSupplier;
 
     JsonNumberArrayAssertions(
-        String path, String arrayType, MemoizedSupplier<List<N>> numbersSupplier) {
+        String path,
+        ValueFormatter formatter,
+        String arrayType,
+        MemoizedSupplier<List<N>> numbersSupplier,
+        Supplier<Iterator<N>> elementsSupplier) {
       this.path = path;
+      this.formatter = formatter;
       this.arrayType = arrayType;
       this.numbersSupplier = numbersSupplier;
+      this.elementsSupplier = elementsSupplier;
     }
 
     public JsonNumberArrayAssertions<N> hasSize(int size) {
@@ -834,33 +1683,105 @@ public interface JsonAssured {
     public JsonNumberArrayAssertions<N> containsAny(Iterable<? extends N> expected) {
       return InternalUtils.containsAny(
           this,
-          numbersSupplier,
+          elementsSupplier,
           StreamSupport.stream(Spliterators.spliteratorUnknownSize(expected.iterator(), 0), false),
           path,
           "Number");
     }
 
     public JsonNumberArrayAssertions<N> allSatisfy(ThrowingConsumer<N> consumer) {
-      return InternalUtils.allSatisfy(this, numbersSupplier, consumer);
+      return InternalUtils.allSatisfy(this, elementsSupplier, consumer);
     }
 
     public JsonNumberArrayAssertions<N> anySatisfy(ThrowingConsumer<N> consumer) {
-      return InternalUtils.anySatisfy(this, numbersSupplier, consumer);
+      return InternalUtils.anySatisfy(this, elementsSupplier, consumer, path, arrayType);
+    }
+
+    public JsonNumberArrayAssertions<N> allMatch(Predicate<? super N> predicate) {
+      return InternalUtils.allMatch(this, elementsSupplier, predicate, formatter, path, arrayType);
+    }
+
+    public JsonNumberArrayAssertions<N> anyMatch(Predicate<? super N> predicate) {
+      return InternalUtils.anyMatch(this, elementsSupplier, predicate, path, arrayType);
+    }
+
+    public JsonNumberArrayAssertions<N> noneMatch(Predicate<? super N> predicate) {
+      return InternalUtils.noneMatch(this, elementsSupplier, predicate, formatter, path, arrayType);
+    }
+
+    public JsonNumberArrayAssertions<N> allMatchInt(IntPredicate predicate) {
+      return allMatch(intPredicate(predicate));
+    }
+
+    public JsonNumberArrayAssertions<N> anyMatchInt(IntPredicate predicate) {
+      return anyMatch(intPredicate(predicate));
+    }
+
+    public JsonNumberArrayAssertions<N> noneMatchInt(IntPredicate predicate) {
+      return noneMatch(intPredicate(predicate));
+    }
+
+    public JsonNumberArrayAssertions<N> allMatchLong(LongPredicate predicate) {
+      return allMatch(longPredicate(predicate));
+    }
+
+    public JsonNumberArrayAssertions<N> anyMatchLong(LongPredicate predicate) {
+      return anyMatch(longPredicate(predicate));
+    }
+
+    public JsonNumberArrayAssertions<N> noneMatchLong(LongPredicate predicate) {
+      return noneMatch(longPredicate(predicate));
+    }
+
+    private Predicate<N> intPredicate(IntPredicate predicate) {
+      InternalUtils.expectedNotNull(predicate, "Predicate");
+      if (!"Int".equals(arrayType)) {
+        throw new IllegalStateException(
+            String.format("IntPredicate cannot be applied to %s array", arrayType));
+      }
+      return item -> item != null && predicate.test(item.intValue());
+    }
+
+    private Predicate<N> longPredicate(LongPredicate predicate) {
+      InternalUtils.expectedNotNull(predicate, "Predicate");
+      if (!"Int".equals(arrayType) && !"Long".equals(arrayType)) {
+        throw new IllegalStateException(
+            String.format("LongPredicate cannot be applied to %s array", arrayType));
+      }
+      return item -> item != null && predicate.test(item.longValue());
     }
 
     public JsonNumberArrayAssertions<N> satisfy(ThrowingConsumer<List<N>> consumer) {
       return InternalUtils.satisfy(this, numbersSupplier, consumer);
     }
+
+    public JsonNumberArrayAssertions<N> hasNoDuplicates() {
+      return InternalUtils.hasNoDuplicates(this, numbersSupplier, formatter, path, arrayType);
+    }
+
+    public JsonNumberArrayAssertions<N> hasNoDuplicatesBy(Function<? super N, ?> keyExtractor) {
+      InternalUtils.expectedNotNull(keyExtractor, "Key extractor");
+      return InternalUtils.hasNoDuplicatesBy(
+          this, numbersSupplier, formatter, keyExtractor, path, arrayType);
+    }
   }
 
   final class JsonStringArrayAssertions {
 
     private final String path;
+    private final ValueFormatter formatter;
     private final MemoizedSupplier<List<String>> stringsSupplier;
+    private final Supplier<Iterator<String>> elementsSupplier;
 
-    JsonStringArrayAssertions(String path, MemoizedSupplier<List<String>> stringsSupplier) {
+    JsonStringArrayAssertions(
+        String path,
+        ValueFormatter formatter,
+        MemoizedSupplier<List<String>> stringsSupplier,
+        Supplier<Iterator<String>> elementsSupplier) {
       this.path = path;
+      this.formatter = formatter;
       this.stringsSupplier = stringsSupplier;
+      this.elementsSupplier = elementsSupplier;
     }
 
     public JsonStringArrayAssertions isEmpty() {
@@ -892,7 +1813,7 @@ public interface JsonAssured {
     public JsonStringArrayAssertions containsAny(Iterable<? extends CharSequence> expected) {
       return InternalUtils.containsAny(
           this,
-          stringsSupplier,
+          elementsSupplier,
           StreamSupport.stream(Spliterators.spliteratorUnknownSize(expected.iterator(), 0), false)
               .map(CharSequence::toString),
           path,
@@ -900,16 +1821,164 @@ public interface JsonAssured {
     }
 
     public JsonStringArrayAssertions allSatisfy(ThrowingConsumer<String> consumer) {
-      return InternalUtils.allSatisfy(this, stringsSupplier, consumer);
+      return InternalUtils.allSatisfy(this, elementsSupplier, consumer);
     }
 
     public JsonStringArrayAssertions anySatisfy(ThrowingConsumer<String> consumer) {
-      return InternalUtils.anySatisfy(this, stringsSupplier, consumer);
+      return InternalUtils.anySatisfy(this, elementsSupplier, consumer, path, "String");
+    }
+
+    public JsonStringArrayAssertions allMatch(Predicate<? super String> predicate) {
+      return InternalUtils.allMatch(this, elementsSupplier, predicate, formatter, path, "String");
+    }
+
+    public JsonStringArrayAssertions anyMatch(Predicate<? super String> predicate) {
+      return InternalUtils.anyMatch(this, elementsSupplier, predicate, path, "String");
+    }
+
+    public JsonStringArrayAssertions noneMatch(Predicate<? super String> predicate) {
+      return InternalUtils.noneMatch(this, elementsSupplier, predicate, formatter, path, "String");
+    }
+
+    public JsonStringArrayAssertions elementsSatisfy(
+        ThrowingConsumer<JsonStringAssertions> elementConsumer) {
+      InternalUtils.expectedNotNull(elementConsumer, "Element consumer");
+      var idx = 0;
+      for (var iterator = elementsSupplier.get(); iterator.hasNext(); ) {
+        var element = iterator.next();
+        if (element == null) {
+          throw new JsonAssertionError(
+              String.format(
+                  "Expected string at path \"%s[%d]\", but actual type was \"null\"", path, idx));
+        }
+        var elementPath = path + "[" + idx + "]";
+        try {
+          elementConsumer.accept(
+              new JsonStringAssertions(
+                  elementPath, null, formatter, new MemoizedSupplier<>(() -> element)));
+        } catch (Throwable t) {
+          InternalUtils.rethrowUnrecoverable(t);
+          throw new JsonAssertionError(
+              String.format(
+                  "String value at path \"%s\" did not satisfy provided condition", elementPath),
+              t);
+        }
+        idx++;
+      }
+      return this;
     }
 
     public JsonStringArrayAssertions satisfy(ThrowingConsumer<List<String>> consumer) {
       return InternalUtils.satisfy(this, stringsSupplier, consumer);
     }
+
+    public JsonStringArrayAssertions hasNoDuplicates() {
+      return InternalUtils.hasNoDuplicates(this, stringsSupplier, formatter, path, "String");
+    }
+
+    public JsonStringArrayAssertions hasNoDuplicatesBy(Function<? super String, ?> keyExtractor) {
+      InternalUtils.expectedNotNull(keyExtractor, "Key extractor");
+      return InternalUtils.hasNoDuplicatesBy(
+          this, stringsSupplier, formatter, keyExtractor, path, "String");
+    }
+  }
+
+  final class JsonObjectArrayAssertions {
+
+    private final String path;
+    private final ValueFormatter formatter;
+    @Nullable private final JsonAssuredListener listener;
+    private final MemoizedSupplier<List<Object>> objectsSupplier;
+    private final Supplier<Iterator<Object>> elementsSupplier;
+
+    JsonObjectArrayAssertions(
+        String path,
+        ValueFormatter formatter,
+        @Nullable JsonAssuredListener listener,
+        MemoizedSupplier<List<Object>> objectsSupplier,
+        Supplier<Iterator<Object>> elementsSupplier) {
+      this.path = path;
+      this.formatter = formatter;
+      this.listener = listener;
+      this.objectsSupplier = objectsSupplier;
+      this.elementsSupplier = elementsSupplier;
+    }
+
+    public JsonObjectArrayAssertions isEmpty() {
+      return InternalUtils.isEmpty(this, objectsSupplier, path, "Object");
+    }
+
+    public JsonObjectArrayAssertions isNotEmpty() {
+      return InternalUtils.isNotEmpty(this, objectsSupplier, path, "Object");
+    }
+
+    public JsonObjectArrayAssertions hasSize(int size) {
+      return InternalUtils.hasSize(this, objectsSupplier, size, path, "Object");
+    }
+
+    public JsonObjectArrayAssertions doesNotContainNull() {
+      return InternalUtils.doesNotContainNull(this, objectsSupplier, path, "Object");
+    }
+
+    public JsonObjectArrayAssertions hasNoDuplicates() {
+      return InternalUtils.hasNoDuplicates(this, objectsSupplier, formatter, path, "Object");
+    }
+
+    public JsonObjectArrayAssertions elementsSatisfy(
+        ThrowingIndexedConsumer<JsonPathAssertions> elementConsumer) {
+      InternalUtils.expectedNotNull(elementConsumer, "Element consumer");
+      var idx = 0;
+      for (var iterator = elementsSupplier.get(); iterator.hasNext(); ) {
+        var element = iterator.next();
+        if (element == null) {
+          throw new JsonAssertionError(
+              String.format(
+                  "Expected object at path \"%s[%d]\", but actual type was \"null\"", path, idx));
+        }
+        var elementAssertions =
+            new JsonPathAssertions(
+                new MemoizedSupplier<>(() -> JsonPath.parse(element)),
+                null,
+                formatter,
+                listener,
+                JsonListeners.UNKNOWN_BYTE_COUNT);
+        try {
+          elementConsumer.accept(idx, elementAssertions);
+        } catch (Throwable t) {
+          InternalUtils.rethrowUnrecoverable(t);
+          throw new JsonAssertionError(
+              String.format(
+                  "Object value at path \"%s[%d]\" did not satisfy provided condition", path, idx),
+              t);
+        }
+        idx++;
+      }
+      return this;
+    }
+
+    public JsonObjectArrayAssertions hasNoDuplicatesBy(@Language("jsonpath") String keyPath) {
+      if (keyPath == null || keyPath.isBlank()) {
+        throw new IllegalArgumentException("keyPath should be non-null and non-blank");
+      }
+      var compiledKeyPath = JsonPath.compile(keyPath);
+      return InternalUtils.hasNoDuplicatesBy(
+          this,
+          objectsSupplier,
+          formatter,
+          item -> {
+            try {
+              return compiledKeyPath.read(item);
+            } catch (PathNotFoundException e) {
+              throw new JsonAssertionError(
+                  () ->
+                      String.format(
+                          "Expected every element of object array at path \"%s\" to have value at key path \"%s\", but it was missing in element <%s>",
+                          path, keyPath, formatter.format(item)));
+            }
+          },
+          path,
+          "Object");
+    }
   }
 
   interface ThrowingConsumer<T> {
@@ -927,6 +1996,11 @@ public interface JsonAssured {
     }
   }
 
+  interface ThrowingIndexedConsumer<T> {
+
+    void accept(int index, T t) throws Throwable;
+  }
+
   interface ThrowingSupplier<T> {
 
     T get() throws Throwable;
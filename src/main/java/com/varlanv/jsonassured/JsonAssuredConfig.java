@@ -0,0 +1,57 @@
+package com.varlanv.jsonassured;
+
+import java.util.List;
+
+public final class JsonAssuredConfig {
+
+  private static final JsonAssuredConfig DEFAULTS =
+      new JsonAssuredConfig(false, ValueFormatter.DEFAULT, List.of());
+
+  private final boolean rawStringComparison;
+  private final ValueFormatter valueFormatter;
+  private final List<JsonAssuredListener> listeners;
+
+  private JsonAssuredConfig(
+      boolean rawStringComparison,
+      ValueFormatter valueFormatter,
+      List<JsonAssuredListener> listeners) {
+    this.rawStringComparison = rawStringComparison;
+    this.valueFormatter = valueFormatter;
+    this.listeners = listeners;
+  }
+
+  public static JsonAssuredConfig defaults() {
+    return DEFAULTS;
+  }
+
+  public JsonAssuredConfig withRawStringComparison(boolean rawStringComparison) {
+    return new JsonAssuredConfig(rawStringComparison, valueFormatter, listeners);
+  }
+
+  public JsonAssuredConfig withMaxValueLength(int maxValueLength) {
+    if (maxValueLength < 1) {
+      throw new IllegalArgumentException(
+          String.format("Max value length should be positive (received %d)", maxValueLength));
+    }
+    return new JsonAssuredConfig(
+        rawStringComparison, new ValueFormatter(maxValueLength), listeners);
+  }
+
+  public JsonAssuredConfig withListener(JsonAssuredListener listener) {
+    InternalUtils.expectedNotNull(listener, "Listener");
+    return new JsonAssuredConfig(
+        rawStringComparison, valueFormatter, JsonListeners.append(listeners, listener));
+  }
+
+  boolean rawStringComparison() {
+    return rawStringComparison;
+  }
+
+  ValueFormatter valueFormatter() {
+    return valueFormatter;
+  }
+
+  List<JsonAssuredListener> listeners() {
+    return listeners;
+  }
+}
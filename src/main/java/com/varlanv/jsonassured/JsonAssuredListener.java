@@ -0,0 +1,16 @@
+package com.varlanv.jsonassured;
+
+public interface JsonAssuredListener {
+
+  default void onParseStart(long byteCount) {}
+
+  default void onParseEnd(long byteCount, long durationNanos) {}
+
+  default void onPathStart(String jsonPath, long documentSize) {}
+
+  default void onPathEvaluated(String jsonPath, String resultType, long durationNanos) {}
+
+  default void onAssertionStart(String assertion, String target, long documentSize) {}
+
+  default void onAssertion(String assertion, String target, boolean passed, long durationNanos) {}
+}
@@ -0,0 +1,243 @@
+package com.varlanv.jsonassured;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+public final class JsonAssuredTimingExtension
+    implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback {
+
+  static final String REPORT_FILE_PROPERTY = "jsonassured.timing.report";
+  static final String DEFAULT_REPORT_FILE = "build/json-assured-timing.txt";
+  private static final int REPORTED_ENTRIES = 20;
+  static final ExtensionContext.Namespace NAMESPACE =
+      ExtensionContext.Namespace.create(JsonAssuredTimingExtension.class);
+
+  @Override
+  public void beforeAll(ExtensionContext context) {
+    report(context);
+  }
+
+  @Override
+  public void beforeEach(ExtensionContext context) {
+    report(context)
+        .start(
+            context.getUniqueId(),
+            context.getRequiredTestClass().getName() + "#" + context.getDisplayName());
+  }
+
+  @Override
+  public void afterEach(ExtensionContext context) {
+    report(context).finish();
+  }
+
+  private static Report report(ExtensionContext context) {
+    return context
+        .getRoot()
+        .getStore(NAMESPACE)
+        .getOrComputeIfAbsent(
+            Report.class,
+            key ->
+                new Report(
+                    Paths.get(
+                        context
+                            .getConfigurationParameter(REPORT_FILE_PROPERTY)
+                            .orElse(DEFAULT_REPORT_FILE))),
+            Report.class);
+  }
+
+  static final class Report
+      implements JsonAssuredListener, ExtensionContext.Store.CloseableResource {
+
+    private final Path reportFile;
+    private final ThreadLocal<TestTotals> current = new ThreadLocal<>();
+    private final Map<String, TestTotals> tests = new ConcurrentHashMap<>();
+    private final Map<String, PathTotals> paths = new ConcurrentHashMap<>();
+    private final PriorityQueue<DocumentParse> slowestDocuments =
+        new PriorityQueue<>(Comparator.comparingLong((DocumentParse doc) -> doc.nanos));
+    private int running;
+
+    Report(Path reportFile) {
+      this.reportFile = reportFile;
+    }
+
+    void start(String testId, String testName) {
+      current.set(tests.computeIfAbsent(testId, id -> new TestTotals(testName)));
+      synchronized (this) {
+        if (running++ == 0) {
+          JsonListeners.register(this);
+        }
+      }
+    }
+
+    void finish() {
+      current.remove();
+      synchronized (this) {
+        if (--running == 0) {
+          JsonListeners.unregister(this);
+        }
+      }
+    }
+
+    @Override
+    public void onParseEnd(long byteCount, long durationNanos) {
+      var test = current.get();
+      if (test == null) {
+        return;
+      }
+      test.parseNanos.add(durationNanos);
+      if (byteCount > 0) {
+        test.bytesParsed.add(byteCount);
+      }
+      synchronized (slowestDocuments) {
+        slowestDocuments.add(new DocumentParse(test.name, byteCount, durationNanos));
+        if (slowestDocuments.size() > REPORTED_ENTRIES) {
+          slowestDocuments.poll();
+        }
+      }
+    }
+
+    @Override
+    public void onPathEvaluated(String jsonPath, String resultType, long durationNanos) {
+      var test = current.get();
+      if (test == null) {
+        return;
+      }
+      test.pathNanos.add(durationNanos);
+      var path = paths.computeIfAbsent(jsonPath, PathTotals::new);
+      path.nanos.add(durationNanos);
+      path.evaluations.increment();
+    }
+
+    @Override
+    public void close() {
+      JsonListeners.unregister(this);
+      try {
+        var parent = reportFile.toAbsolutePath().getParent();
+        if (parent != null) {
+          Files.createDirectories(parent);
+        }
+        Files.write(reportFile, render().getBytes(StandardCharsets.UTF_8));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    String render() {
+      var sb = new StringBuilder("JsonAssured timing report").append(System.lineSeparator());
+      var rankedTests = new ArrayList<>(tests.values());
+      rankedTests.sort(Comparator.comparingLong(TestTotals::totalNanos).reversed());
+      section(sb, "Slowest tests (parse + path evaluation)");
+      for (var idx = 0; idx < Math.min(REPORTED_ENTRIES, rankedTests.size()); idx++) {
+        var test = rankedTests.get(idx);
+        line(
+            sb,
+            idx,
+            String.format(
+                "%s  parse %s, paths %s, %d bytes  %s",
+                millis(test.totalNanos()),
+                millis(test.parseNanos.sum()),
+                millis(test.pathNanos.sum()),
+                test.bytesParsed.sum(),
+                test.name));
+      }
+      var rankedPaths = new ArrayList<>(paths.values());
+      rankedPaths.sort(Comparator.comparingLong((PathTotals path) -> path.nanos.sum()).reversed());
+      section(sb, "Slowest paths");
+      for (var idx = 0; idx < Math.min(REPORTED_ENTRIES, rankedPaths.size()); idx++) {
+        var path = rankedPaths.get(idx);
+        line(
+            sb,
+            idx,
+            String.format(
+                "%s total, %d evaluations  %s",
+                millis(path.nanos.sum()), path.evaluations.sum(), path.path));
+      }
+      List<DocumentParse> rankedDocuments;
+      synchronized (slowestDocuments) {
+        rankedDocuments = new ArrayList<>(slowestDocuments);
+      }
+      rankedDocuments.sort(Comparator.comparingLong((DocumentParse doc) -> doc.nanos).reversed());
+      section(sb, "Slowest documents");
+      for (var idx = 0; idx < rankedDocuments.size(); idx++) {
+        var document = rankedDocuments.get(idx);
+        line(
+            sb,
+            idx,
+            String.format(
+                "%s  %s  %s",
+                millis(document.nanos),
+                document.bytes < 0 ? "unknown size" : document.bytes + " bytes",
+                document.test));
+      }
+      return sb.toString();
+    }
+
+    private static void section(StringBuilder sb, String title) {
+      sb.append(System.lineSeparator()).append(title).append(':').append(System.lineSeparator());
+    }
+
+    private static void line(StringBuilder sb, int idx, String text) {
+      sb.append(String.format(Locale.ROOT, "  %d. %s%n", idx + 1, text));
+    }
+
+    private static String millis(long nanos) {
+      return String.format(Locale.ROOT, "%.3f ms", nanos / 1_000_000.0);
+    }
+  }
+
+  private static final class TestTotals {
+
+    private final String name;
+    private final LongAdder parseNanos = new LongAdder();
+    private final LongAdder pathNanos = new LongAdder();
+    private final LongAdder bytesParsed = new LongAdder();
+
+    private TestTotals(String name) {
+      this.name = name;
+    }
+
+    private long totalNanos() {
+      return parseNanos.sum() + pathNanos.sum();
+    }
+  }
+
+  private static final class PathTotals {
+
+    private final String path;
+    private final LongAdder nanos = new LongAdder();
+    private final LongAdder evaluations = new LongAdder();
+
+    private PathTotals(String path) {
+      this.path = path;
+    }
+  }
+
+  private static final class DocumentParse {
+
+    private final String test;
+    private final long bytes;
+    private final long nanos;
+
+    private DocumentParse(String test, long bytes, long nanos) {
+      this.test = test;
+      this.bytes = bytes;
+      this.nanos = nanos;
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package com.varlanv.jsonassured;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+final class JsonBatchAssertions {
+
+  static final int MAX_IN_FLIGHT = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+  private static final int MAX_REPORTED = 50;
+
+  private JsonBatchAssertions() {}
+
+  static ExecutorService newDefaultExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      var counter = new AtomicInteger();
+      return Executors.newFixedThreadPool(
+          MAX_IN_FLIGHT,
+          runnable -> {
+            var thread = new Thread(runnable, "json-assured-batch-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          });
+    }
+  }
+
+  static void assertAll(
+      Iterable<byte[]> bodies,
+      JsonAssured.ThrowingConsumer<JsonAssured.JsonPathAssertions> specification,
+      Executor executor) {
+    var permits = new Semaphore(MAX_IN_FLIGHT);
+    var failures = new ConcurrentSkipListMap<Integer, List<String>>();
+    var failureCount = new AtomicInteger();
+    var unexpected = new AtomicReference<Throwable>();
+    var total = 0;
+    try {
+      for (var body : bodies) {
+        InternalUtils.expectedNotNull(body, "Response body");
+        var index = total++;
+        acquire(permits, 1);
+        if (unexpected.get() != null) {
+          permits.release();
+          break;
+        }
+        try {
+          executor.execute(
+              () -> {
+                try {
+                  var result = JsonAssured.validate(body, specification);
+                  if (!result.isValid()) {
+                    failureCount.incrementAndGet();
+                    record(failures, index, result);
+                  }
+                } catch (Throwable e) {
+                  unexpected.compareAndSet(null, e);
+                } finally {
+                  permits.release();
+                }
+              });
+        } catch (RuntimeException e) {
+          permits.release();
+          throw e;
+        }
+      }
+    } finally {
+      acquire(permits, MAX_IN_FLIGHT);
+    }
+    var error = unexpected.get();
+    if (error != null) {
+      InternalUtils.rethrow(error);
+    }
+    if (failureCount.get() > 0) {
+      var responses = total;
+      throw new JsonAssertionError(() -> formatFailures(failures, failureCount.get(), responses));
+    }
+  }
+
+  private static void record(
+      ConcurrentSkipListMap<Integer, List<String>> failures,
+      int index,
+      JsonAssured.ValidationResult result) {
+    if (failures.size() < MAX_REPORTED || index < failures.lastKey()) {
+      failures.put(index, result.violations());
+      if (failures.size() > MAX_REPORTED) {
+        failures.pollLastEntry();
+      }
+    }
+  }
+
+  private static void acquire(Semaphore permits, int count) {
+    try {
+      permits.acquire(count);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      InternalUtils.rethrow(e);
+    }
+  }
+
+  private static String formatFailures(
+      Map<Integer, List<String>> failures, int failureCount, int total) {
+    var sb =
+        new StringBuilder(
+            String.format(
+                "%d of %d responses did not satisfy provided specification:", failureCount, total));
+    for (var entry : failures.entrySet()) {
+      sb.append(String.format("%n  response [%d]:", entry.getKey()));
+      for (var violation : entry.getValue()) {
+        sb.append(String.format("%n    - %s", violation));
+      }
+    }
+    if (failureCount > failures.size()) {
+      sb.append(String.format("%n  ... and %d more responses", failureCount - failures.size()));
+    }
+    return sb.toString();
+  }
+}
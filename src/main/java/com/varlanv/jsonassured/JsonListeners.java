@@ -0,0 +1,135 @@
+package com.varlanv.jsonassured;
+
+import com.jayway.jsonpath.DocumentContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.Nullable;
+
+final class JsonListeners implements JsonAssuredListener {
+
+  static final long UNKNOWN_BYTE_COUNT = -1L;
+  private static final CopyOnWriteArrayList<JsonAssuredListener> GLOBAL =
+      new CopyOnWriteArrayList<>();
+  @Nullable private static final JfrListener JFR = loadJfr();
+
+  private final JsonAssuredListener[] listeners;
+
+  private JsonListeners(JsonAssuredListener[] listeners) {
+    this.listeners = listeners;
+  }
+
+  static void register(JsonAssuredListener listener) {
+    GLOBAL.addIfAbsent(listener);
+  }
+
+  static void unregister(JsonAssuredListener listener) {
+    GLOBAL.remove(listener);
+  }
+
+  static @Nullable JsonAssuredListener resolve(JsonAssuredConfig config) {
+    var configured = config.listeners();
+    var jfr = JFR != null && JFR.isEnabled() ? JFR : null;
+    if (GLOBAL.isEmpty() && configured.isEmpty() && jfr == null) {
+      return null;
+    }
+    var all = new ArrayList<JsonAssuredListener>(GLOBAL);
+    all.addAll(configured);
+    if (jfr != null) {
+      all.add(jfr);
+    }
+    if (all.size() == 1) {
+      return all.get(0);
+    }
+    return new JsonListeners(all.toArray(new JsonAssuredListener[0]));
+  }
+
+  private static @Nullable JfrListener loadJfr() {
+    try {
+      return new JfrListener();
+    } catch (LinkageError e) {
+      return null;
+    }
+  }
+
+  static List<JsonAssuredListener> append(
+      List<JsonAssuredListener> listeners, JsonAssuredListener listener) {
+    var result = new ArrayList<JsonAssuredListener>(listeners.size() + 1);
+    result.addAll(listeners);
+    result.add(listener);
+    return List.copyOf(result);
+  }
+
+  static long utf8Length(String value) {
+    long length = value.length();
+    for (var idx = 0; idx < value.length(); idx++) {
+      var ch = value.charAt(idx);
+      if (ch >= 0x800) {
+        length += Character.isSurrogate(ch) ? 1 : 2;
+      } else if (ch >= 0x80) {
+        length++;
+      }
+    }
+    return length;
+  }
+
+  static MemoizedSupplier<DocumentContext> parser(
+      @Nullable JsonAssuredListener listener, long byteCount, Supplier<DocumentContext> parse) {
+    if (listener == null) {
+      return new MemoizedSupplier<>(parse);
+    }
+    return new MemoizedSupplier<>(
+        () -> {
+          listener.onParseStart(byteCount);
+          var start = System.nanoTime();
+          try {
+            return parse.get();
+          } finally {
+            listener.onParseEnd(byteCount, System.nanoTime() - start);
+          }
+        });
+  }
+
+  @Override
+  public void onParseStart(long byteCount) {
+    for (var listener : listeners) {
+      listener.onParseStart(byteCount);
+    }
+  }
+
+  @Override
+  public void onParseEnd(long byteCount, long durationNanos) {
+    for (var listener : listeners) {
+      listener.onParseEnd(byteCount, durationNanos);
+    }
+  }
+
+  @Override
+  public void onPathStart(String jsonPath, long documentSize) {
+    for (var listener : listeners) {
+      listener.onPathStart(jsonPath, documentSize);
+    }
+  }
+
+  @Override
+  public void onPathEvaluated(String jsonPath, String resultType, long durationNanos) {
+    for (var listener : listeners) {
+      listener.onPathEvaluated(jsonPath, resultType, durationNanos);
+    }
+  }
+
+  @Override
+  public void onAssertionStart(String assertion, String target, long documentSize) {
+    for (var listener : listeners) {
+      listener.onAssertionStart(assertion, target, documentSize);
+    }
+  }
+
+  @Override
+  public void onAssertion(String assertion, String target, boolean passed, long durationNanos) {
+    for (var listener : listeners) {
+      listener.onAssertion(assertion, target, passed, durationNanos);
+    }
+  }
+}
@@ -0,0 +1,383 @@
+package com.varlanv.jsonassured;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.jetbrains.annotations.Nullable;
+
+interface JsonNodes {
+
+  long NULL_HASH = 0x6A09E667F3BCC908L;
+  long TRUE_HASH = 0xBB67AE8584CAA73BL;
+  long FALSE_HASH = 0x3C6EF372FE94F82BL;
+  long OBJECT_SEED = 0xA54FF53A5F1D36F1L;
+  long ARRAY_SEED = 0x510E527FADE682D1L;
+  long UNORDERED_ARRAY_SEED = 0x9B05688C2B3E6C1FL;
+  long STRING_SEED = 0x1F83D9ABFB41BD6BL;
+  long NUMBER_SEED = 0x5BE0CD19137E2179L;
+  BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+  BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+  static long mix64(long value) {
+    var z = value;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  static long stringHash(CharSequence value) {
+    var h = STRING_SEED;
+    for (var idx = 0; idx < value.length(); idx++) {
+      h = (h ^ value.charAt(idx)) * 0x100000001B3L;
+    }
+    return mix64(h ^ value.length());
+  }
+
+  static long numberHash(Number value) {
+    if (value instanceof Integer || value instanceof Long) {
+      return mix64(NUMBER_SEED ^ value.longValue());
+    }
+    var normalized = normalizeNumber(value);
+    if (normalized.scale() <= 0
+        && normalized.compareTo(LONG_MIN) >= 0
+        && normalized.compareTo(LONG_MAX) <= 0) {
+      return mix64(NUMBER_SEED ^ normalized.longValueExact());
+    }
+    var h = NUMBER_SEED ^ normalized.scale();
+    for (var b : normalized.unscaledValue().toByteArray()) {
+      h = (h ^ (b & 0xFF)) * 0x100000001B3L;
+    }
+    return mix64(h);
+  }
+
+  static BigDecimal normalizeNumber(Number value) {
+    BigDecimal decimal;
+    if (value instanceof BigDecimal) {
+      decimal = (BigDecimal) value;
+    } else if (value instanceof BigInteger) {
+      decimal = new BigDecimal((BigInteger) value);
+    } else if (value instanceof Double || value instanceof Float) {
+      decimal = new BigDecimal(value.toString());
+    } else {
+      decimal = BigDecimal.valueOf(value.longValue());
+    }
+    return decimal.signum() == 0 ? BigDecimal.ZERO : decimal.stripTrailingZeros();
+  }
+
+  static boolean scalarEquals(@Nullable Object left, @Nullable Object right) {
+    if (left instanceof Number && right instanceof Number) {
+      if ((left instanceof Integer || left instanceof Long)
+          && (right instanceof Integer || right instanceof Long)) {
+        return ((Number) left).longValue() == ((Number) right).longValue();
+      }
+      return normalizeNumber((Number) left).compareTo(normalizeNumber((Number) right)) == 0;
+    } else if (left instanceof CharSequence && right instanceof CharSequence) {
+      return left.toString().equals(right.toString());
+    }
+    return left == null ? right == null : left.equals(right);
+  }
+
+  static boolean deepEquals(
+      @Nullable Object left,
+      @Nullable Object right,
+      boolean ignoreArrayOrder,
+      IdentityHashMap<Object, Long> memo) {
+    if (left == right) {
+      return true;
+    } else if (left instanceof Map<?, ?> && right instanceof Map<?, ?>) {
+      var leftMap = (Map<?, ?>) left;
+      var rightMap = (Map<?, ?>) right;
+      if (leftMap.size() != rightMap.size()) {
+        return false;
+      }
+      for (var entry : leftMap.entrySet()) {
+        var key = String.valueOf(entry.getKey());
+        if (!rightMap.containsKey(key)
+            || !deepEquals(entry.getValue(), rightMap.get(key), ignoreArrayOrder, memo)) {
+          return false;
+        }
+      }
+      return true;
+    } else if (left instanceof List<?> && right instanceof List<?>) {
+      var leftList = (List<?>) left;
+      var rightList = (List<?>) right;
+      if (leftList.size() != rightList.size()) {
+        return false;
+      } else if (ignoreArrayOrder) {
+        return hash(left, true, memo) == hash(right, true, memo)
+            && unorderedEquals(leftList, rightList, memo);
+      }
+      for (var idx = 0; idx < leftList.size(); idx++) {
+        if (!deepEquals(leftList.get(idx), rightList.get(idx), false, memo)) {
+          return false;
+        }
+      }
+      return true;
+    } else if (left instanceof Map<?, ?>
+        || right instanceof Map<?, ?>
+        || left instanceof List<?>
+        || right instanceof List<?>) {
+      return false;
+    }
+    return scalarEquals(left, right);
+  }
+
+  private static boolean unorderedEquals(
+      List<?> left, List<?> right, IdentityHashMap<Object, Long> memo) {
+    var rightByHash = new HashMap<Long, List<@Nullable Object>>();
+    for (var item : right) {
+      rightByHash.computeIfAbsent(hash(item, true, memo), k -> new ArrayList<>(1)).add(item);
+    }
+    for (var item : left) {
+      var candidates = rightByHash.get(hash(item, true, memo));
+      if (candidates == null || !removeEqual(candidates, item, memo)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean removeEqual(
+      List<@Nullable Object> candidates,
+      @Nullable Object item,
+      IdentityHashMap<Object, Long> memo) {
+    for (var iterator = candidates.iterator(); iterator.hasNext(); ) {
+      if (deepEquals(item, iterator.next(), true, memo)) {
+        iterator.remove();
+        return true;
+      }
+    }
+    return false;
+  }
+
+  static long hash(
+      @Nullable Object node, boolean ignoreArrayOrder, IdentityHashMap<Object, Long> memo) {
+    if (node == null) {
+      return NULL_HASH;
+    } else if (node instanceof Boolean) {
+      return (Boolean) node ? TRUE_HASH : FALSE_HASH;
+    } else if (node instanceof Number) {
+      return numberHash((Number) node);
+    } else if (node instanceof CharSequence) {
+      return stringHash((CharSequence) node);
+    }
+    var memoized = memo.get(node);
+    if (memoized != null) {
+      return memoized;
+    }
+    long result;
+    if (node instanceof Map<?, ?>) {
+      var map = (Map<?, ?>) node;
+      var h = OBJECT_SEED ^ map.size();
+      for (var entry : map.entrySet()) {
+        h +=
+            mix64(
+                stringHash(String.valueOf(entry.getKey())) * 31
+                    + hash(entry.getValue(), ignoreArrayOrder, memo));
+      }
+      result = mix64(h);
+    } else if (node instanceof List<?>) {
+      var list = (List<?>) node;
+      if (ignoreArrayOrder) {
+        var h = UNORDERED_ARRAY_SEED ^ list.size();
+        for (var item : list) {
+          h += mix64(hash(item, true, memo));
+        }
+        result = mix64(h);
+      } else {
+        var h = ARRAY_SEED ^ list.size();
+        for (var item : list) {
+          h = h * 0x100000001B3L + hash(item, false, memo);
+        }
+        result = mix64(h);
+      }
+    } else {
+      result = stringHash(node.toString());
+    }
+    memo.put(node, result);
+    return result;
+  }
+
+  static String childPath(String parent, String key) {
+    var simple = !key.isEmpty() && Character.isJavaIdentifierStart(key.charAt(0));
+    for (var idx = 1; simple && idx < key.length(); idx++) {
+      simple = Character.isJavaIdentifierPart(key.charAt(idx));
+    }
+    return simple ? parent + "." + key : parent + "['" + key.replace("'", "\\'") + "']";
+  }
+
+  static String childPath(String parent, int index) {
+    return parent + "[" + index + "]";
+  }
+
+  static @Nullable Object freeze(@Nullable Object node) {
+    if (node instanceof Map<?, ?>) {
+      var map = (Map<?, ?>) node;
+      var frozen =
+          new LinkedHashMap<String, @Nullable Object>(InternalUtils.tableCapacity(map.size()));
+      for (var entry : map.entrySet()) {
+        frozen.put(String.valueOf(entry.getKey()), freeze(entry.getValue()));
+      }
+      return Collections.unmodifiableMap(frozen);
+    } else if (node instanceof List<?>) {
+      var list = (List<?>) node;
+      var frozen = new ArrayList<@Nullable Object>(list.size());
+      for (var item : list) {
+        frozen.add(freeze(item));
+      }
+      return new FrozenList(frozen);
+    }
+    return node;
+  }
+
+  static String toJson(@Nullable Object node) {
+    var sb = new StringBuilder();
+    writeJson(node, sb);
+    return sb.toString();
+  }
+
+  static void writeJson(@Nullable Object node, StringBuilder sb) {
+    if (node == null) {
+      sb.append("null");
+    } else if (node instanceof CharSequence) {
+      writeString(node.toString(), sb);
+    } else if (node instanceof Map<?, ?>) {
+      sb.append('{');
+      var first = true;
+      for (var entry : ((Map<?, ?>) node).entrySet()) {
+        if (!first) {
+          sb.append(',');
+        }
+        first = false;
+        writeString(String.valueOf(entry.getKey()), sb);
+        sb.append(':');
+        writeJson(entry.getValue(), sb);
+      }
+      sb.append('}');
+    } else if (node instanceof List<?>) {
+      sb.append('[');
+      var first = true;
+      for (var item : (List<?>) node) {
+        if (!first) {
+          sb.append(',');
+        }
+        first = false;
+        writeJson(item, sb);
+      }
+      sb.append(']');
+    } else {
+      sb.append(node);
+    }
+  }
+
+  static String toCanonicalJson(@Nullable Object node) {
+    var sb = new StringBuilder();
+    writeCanonicalJson(node, sb, 0);
+    return sb.append('\n').toString();
+  }
+
+  static void writeCanonicalJson(@Nullable Object node, StringBuilder sb, int depth) {
+    if (node instanceof Map<?, ?>) {
+      var map = (Map<?, ?>) node;
+      if (map.isEmpty()) {
+        sb.append("{}");
+        return;
+      }
+      var sorted = new TreeMap<String, Object>();
+      for (var entry : map.entrySet()) {
+        sorted.put(String.valueOf(entry.getKey()), entry.getValue());
+      }
+      sb.append('{');
+      var first = true;
+      for (var entry : sorted.entrySet()) {
+        if (!first) {
+          sb.append(',');
+        }
+        first = false;
+        newLine(sb, depth + 1);
+        writeString(entry.getKey(), sb);
+        sb.append(": ");
+        writeCanonicalJson(entry.getValue(), sb, depth + 1);
+      }
+      newLine(sb, depth);
+      sb.append('}');
+    } else if (node instanceof List<?>) {
+      var list = (List<?>) node;
+      if (list.isEmpty()) {
+        sb.append("[]");
+        return;
+      }
+      sb.append('[');
+      var first = true;
+      for (var item : list) {
+        if (!first) {
+          sb.append(',');
+        }
+        first = false;
+        newLine(sb, depth + 1);
+        writeCanonicalJson(item, sb, depth + 1);
+      }
+      newLine(sb, depth);
+      sb.append(']');
+    } else if (node instanceof Number) {
+      var normalized = normalizeNumber((Number) node);
+      sb.append(
+          normalized.scale() <= 0
+              ? normalized.toBigIntegerExact().toString()
+              : normalized.toPlainString());
+    } else {
+      writeJson(node, sb);
+    }
+  }
+
+  private static void newLine(StringBuilder sb, int depth) {
+    sb.append('\n');
+    for (var idx = 0; idx < depth; idx++) {
+      sb.append("  ");
+    }
+  }
+
+  static void writeString(String value, StringBuilder sb) {
+    sb.append('"');
+    for (var idx = 0; idx < value.length(); idx++) {
+      var ch = value.charAt(idx);
+      switch (ch) {
+        case '"':
+          sb.append("\\\"");
+          break;
+        case '\\':
+          sb.append("\\\\");
+          break;
+        case '\n':
+          sb.append("\\n");
+          break;
+        case '\r':
+          sb.append("\\r");
+          break;
+        case '\t':
+          sb.append("\\t");
+          break;
+        case '\b':
+          sb.append("\\b");
+          break;
+        case '\f':
+          sb.append("\\f");
+          break;
+        default:
+          if (ch < 0x20) {
+            sb.append(String.format("\\u%04x", (int) ch));
+          } else {
+            sb.append(ch);
+          }
+      }
+    }
+    sb.append('"');
+  }
+}
@@ -0,0 +1,246 @@
+package com.varlanv.jsonassured;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.jetbrains.annotations.Nullable;
+
+final class JsonPathStream {
+
+  static final int PROPERTY = 0;
+  static final int INDEX = 1;
+  static final int WILDCARD = 2;
+  static final int DEEP_SCAN = 3;
+
+  private final int[] kinds;
+  private final String[] names;
+  private final int[] indexes;
+  private final boolean indefinite;
+
+  private JsonPathStream(int[] kinds, String[] names, int[] indexes, boolean indefinite) {
+    this.kinds = kinds;
+    this.names = names;
+    this.indexes = indexes;
+    this.indefinite = indefinite;
+  }
+
+  static @Nullable JsonPathStream compile(String jsonPath) {
+    var compiled = parse(jsonPath);
+    return compiled == null || !compiled.indefinite ? null : compiled;
+  }
+
+  static @Nullable JsonPathStream parse(String jsonPath) {
+    var path = jsonPath.trim();
+    if (!path.startsWith("$")) {
+      return null;
+    }
+    var kinds = new ArrayList<Integer>();
+    var names = new ArrayList<String>();
+    var indexes = new ArrayList<Integer>();
+    var indefinite = false;
+    var pos = 1;
+    while (pos < path.length()) {
+      var ch = path.charAt(pos);
+      if (ch == '.' && pos + 1 < path.length() && path.charAt(pos + 1) == '.') {
+        var end = nameEnd(path, pos + 2);
+        if (end == pos + 2) {
+          return null;
+        }
+        kinds.add(DEEP_SCAN);
+        names.add(path.substring(pos + 2, end));
+        indexes.add(-1);
+        indefinite = true;
+        pos = end;
+      } else if (ch == '.') {
+        if (pos + 1 < path.length() && path.charAt(pos + 1) == '*') {
+          kinds.add(WILDCARD);
+          names.add("");
+          indexes.add(-1);
+          indefinite = true;
+          pos += 2;
+        } else {
+          var end = nameEnd(path, pos + 1);
+          if (end == pos + 1) {
+            return null;
+          }
+          kinds.add(PROPERTY);
+          names.add(path.substring(pos + 1, end));
+          indexes.add(-1);
+          pos = end;
+        }
+      } else if (ch == '[') {
+        var close = path.indexOf(']', pos);
+        if (close < 0) {
+          return null;
+        }
+        var content = path.substring(pos + 1, close).trim();
+        if (content.equals("*")) {
+          kinds.add(WILDCARD);
+          names.add("");
+          indexes.add(-1);
+          indefinite = true;
+        } else if (content.length() >= 2
+            && (content.charAt(0) == '\'' || content.charAt(0) == '"')
+            && content.charAt(content.length() - 1) == content.charAt(0)) {
+          var name = content.substring(1, content.length() - 1);
+          if (name.indexOf('\'') >= 0 || name.indexOf('"') >= 0 || name.indexOf('\\') >= 0) {
+            return null;
+          }
+          kinds.add(PROPERTY);
+          names.add(name);
+          indexes.add(-1);
+        } else if (!content.isEmpty() && content.length() < 10 && isDigits(content)) {
+          kinds.add(INDEX);
+          names.add("");
+          indexes.add(Integer.parseInt(content));
+        } else {
+          return null;
+        }
+        pos = close + 1;
+      } else {
+        return null;
+      }
+    }
+    var size = kinds.size();
+    var kindsArray = new int[size];
+    var indexesArray = new int[size];
+    for (var idx = 0; idx < size; idx++) {
+      kindsArray[idx] = kinds.get(idx);
+      indexesArray[idx] = indexes.get(idx);
+    }
+    return new JsonPathStream(kindsArray, names.toArray(new String[0]), indexesArray, indefinite);
+  }
+
+  int size() {
+    return kinds.length;
+  }
+
+  int kind(int segment) {
+    return kinds[segment];
+  }
+
+  String name(int segment) {
+    return names[segment];
+  }
+
+  int index(int segment) {
+    return indexes[segment];
+  }
+
+  private static int nameEnd(String path, int start) {
+    var pos = start;
+    while (pos < path.length()) {
+      var ch = path.charAt(pos);
+      if (Character.isLetterOrDigit(ch) || ch == '_' || ch == '-' || ch == '$') {
+        pos++;
+      } else if (ch == '.' || ch == '[') {
+        break;
+      } else {
+        return start;
+      }
+    }
+    return pos;
+  }
+
+  private static boolean isDigits(String value) {
+    for (var idx = 0; idx < value.length(); idx++) {
+      if (!Character.isDigit(value.charAt(idx))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  Iterator<@Nullable Object> iterator(@Nullable Object root) {
+    return new MatchIterator(root);
+  }
+
+  private final class MatchIterator implements Iterator<@Nullable Object> {
+
+    private final ArrayDeque<Iterator<?>> nodes = new ArrayDeque<>();
+    private final ArrayDeque<Integer> segments = new ArrayDeque<>();
+    private boolean hasPending;
+    @Nullable private Object pending;
+
+    MatchIterator(@Nullable Object root) {
+      nodes.push(Collections.singletonList(root).iterator());
+      segments.push(0);
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (hasPending) {
+        return true;
+      }
+      while (!nodes.isEmpty()) {
+        var top = nodes.peek();
+        if (!top.hasNext()) {
+          nodes.pop();
+          segments.pop();
+          continue;
+        }
+        var node = top.next();
+        int segment = segments.peek();
+        if (segment == kinds.length) {
+          pending = node;
+          hasPending = true;
+          return true;
+        }
+        advance(node, segment);
+      }
+      return false;
+    }
+
+    @Override
+    public @Nullable Object next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      var result = pending;
+      pending = null;
+      hasPending = false;
+      return result;
+    }
+
+    private void advance(@Nullable Object node, int segment) {
+      switch (kinds[segment]) {
+        case PROPERTY:
+          if (node instanceof Map<?, ?> && ((Map<?, ?>) node).containsKey(names[segment])) {
+            push(Collections.singletonList(((Map<?, ?>) node).get(names[segment])), segment + 1);
+          }
+          break;
+        case INDEX:
+          if (node instanceof List<?> && indexes[segment] < ((List<?>) node).size()) {
+            push(Collections.singletonList(((List<?>) node).get(indexes[segment])), segment + 1);
+          }
+          break;
+        case WILDCARD:
+          if (node instanceof Map<?, ?>) {
+            push(((Map<?, ?>) node).values(), segment + 1);
+          } else if (node instanceof List<?>) {
+            push((List<?>) node, segment + 1);
+          }
+          break;
+        default:
+          if (node instanceof Map<?, ?>) {
+            var map = (Map<?, ?>) node;
+            push(map.values(), segment);
+            if (map.containsKey(names[segment])) {
+              push(Collections.singletonList(map.get(names[segment])), segment + 1);
+            }
+          } else if (node instanceof List<?>) {
+            push((List<?>) node, segment);
+          }
+      }
+    }
+
+    private void push(Iterable<?> children, int segment) {
+      nodes.push(children.iterator());
+      segments.push(segment);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.varlanv.jsonassured;
+
+import com.jayway.jsonpath.JsonPathException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.Nullable;
+
+final class JsonPolling {
+
+  private static final int MAX_BACKOFF_FACTOR = 16;
+
+  private JsonPolling() {}
+
+  static JsonAssured.JsonPathAssertions eventually(
+      Supplier<byte[]> fetch,
+      JsonAssured.ThrowingConsumer<JsonAssured.JsonPathAssertions> specification,
+      Duration timeout,
+      Duration interval) {
+    var deadline = System.nanoTime() + timeout.toNanos();
+    var baseSleep = interval.toNanos();
+    var sleep = baseSleep;
+    var attempts = 0;
+    var distinct = 0;
+    var previousHash = 0L;
+    byte @Nullable [] previous = null;
+    @Nullable Throwable lastFailure = null;
+    while (true) {
+      attempts++;
+      var bytes = fetch.get();
+      if (bytes == null) {
+        lastFailure = new JsonAssertionError("Fetched response body is null");
+        previous = null;
+      } else {
+        var hash = hash(bytes);
+        if (previous == null
+            || bytes.length != previous.length
+            || hash != previousHash
+            || !Arrays.equals(bytes, previous)) {
+          previousHash = hash;
+          previous = bytes.clone();
+          distinct++;
+          sleep = baseSleep;
+          var assertions = JsonAssured.assertJson(bytes);
+          lastFailure = attempt(assertions, specification);
+          if (lastFailure == null) {
+            return assertions;
+          }
+        } else {
+          sleep = Math.min(sleep * 2, baseSleep * MAX_BACKOFF_FACTOR);
+        }
+      }
+      var remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        var failure = lastFailure;
+        var attemptCount = attempts;
+        var distinctCount = distinct;
+        throw new JsonAssertionError(
+            () ->
+                String.format(
+                    "Expected JSON to satisfy provided condition within %d ms, but it did not after %d attempts with %d distinct bodies",
+                    timeout.toMillis(), attemptCount, distinctCount),
+            failure);
+      }
+      pause(Math.min(sleep, remaining));
+    }
+  }
+
+  private static @Nullable Throwable attempt(
+      JsonAssured.JsonPathAssertions assertions,
+      JsonAssured.ThrowingConsumer<JsonAssured.JsonPathAssertions> specification) {
+    JsonAssertionError.enterStackless();
+    try {
+      specification.accept(assertions);
+      return null;
+    } catch (AssertionError | JsonPathException e) {
+      return e;
+    } catch (Throwable e) {
+      return InternalUtils.rethrow(e);
+    } finally {
+      JsonAssertionError.exitStackless();
+    }
+  }
+
+  private static void pause(long nanos) {
+    try {
+      Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      InternalUtils.rethrow(e);
+    }
+  }
+
+  private static long hash(byte[] bytes) {
+    var hash = 0xCBF29CE484222325L;
+    for (var b : bytes) {
+      hash = (hash ^ (b & 0xFF)) * 0x100000001B3L;
+    }
+    return JsonNodes.mix64(hash);
+  }
+}
@@ -0,0 +1,754 @@
+package com.varlanv.jsonassured;
+
+import com.jayway.jsonpath.JsonPath;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.jetbrains.annotations.Nullable;
+
+final class JsonSchemaValidator {
+
+  private static final ConcurrentHashMap<String, JsonSchemaValidator> CACHE =
+      new ConcurrentHashMap<>();
+  private static final List<String> UNSUPPORTED_KEYWORDS =
+      List.of(
+          "prefixItems",
+          "minContains",
+          "maxContains",
+          "unevaluatedItems",
+          "unevaluatedProperties",
+          "$dynamicRef",
+          "$recursiveRef");
+
+  private final Rule root;
+
+  private JsonSchemaValidator(Rule root) {
+    this.root = root;
+  }
+
+  static JsonSchemaValidator compile(String schema) {
+    return CACHE.computeIfAbsent(
+        schema,
+        key -> {
+          var document = JsonPath.parse(key).json();
+          return new JsonSchemaValidator(new Compiler(document).compileRoot());
+        });
+  }
+
+  List<String> validate(@Nullable Object node, String rootPath) {
+    var violations = new ArrayList<String>();
+    root.validate(node, rootPath, violations);
+    return violations;
+  }
+
+  interface Rule {
+
+    void validate(@Nullable Object node, String path, List<String> violations);
+  }
+
+  private static final class RefRule implements Rule {
+
+    private final String ref;
+    @Nullable private Rule target;
+
+    RefRule(String ref) {
+      this.ref = ref;
+    }
+
+    @Override
+    public void validate(@Nullable Object node, String path, List<String> violations) {
+      var rule = target;
+      if (rule == null) {
+        throw new IllegalStateException(String.format("Unresolved schema reference \"%s\"", ref));
+      }
+      rule.validate(node, path, violations);
+    }
+  }
+
+  private static final class Compiler {
+
+    private final Object document;
+    private final Map<String, RefRule> refs = new HashMap<>();
+
+    Compiler(Object document) {
+      this.document = document;
+    }
+
+    Rule compileRoot() {
+      var root = compile(document, "#");
+      var resolved = new HashMap<String, Rule>();
+      while (resolved.size() < refs.size()) {
+        for (var ref : new ArrayList<>(refs.values())) {
+          if (!resolved.containsKey(ref.ref)) {
+            var rule = ref.ref.equals("#") ? root : compile(resolvePointer(ref.ref), ref.ref);
+            resolved.put(ref.ref, rule);
+          }
+        }
+      }
+      for (var ref : refs.values()) {
+        ref.target = resolved.get(ref.ref);
+      }
+      return root;
+    }
+
+    private Object resolvePointer(String ref) {
+      if (!ref.startsWith("#/")) {
+        throw new IllegalArgumentException(
+            String.format("Only local schema references are supported, but found \"%s\"", ref));
+      }
+      @Nullable Object current = document;
+      for (var token : ref.substring(2).split("/", -1)) {
+        var key = token.replace("~1", "/").replace("~0", "~");
+        if (current instanceof Map<?, ?> && ((Map<?, ?>) current).containsKey(key)) {
+          current = ((Map<?, ?>) current).get(key);
+        } else if (current instanceof List<?> && key.chars().allMatch(Character::isDigit)) {
+          current = ((List<?>) current).get(Integer.parseInt(key));
+        } else {
+          current = null;
+        }
+        if (current == null) {
+          throw new IllegalArgumentException(
+              String.format("Schema reference \"%s\" cannot be resolved", ref));
+        }
+      }
+      return current;
+    }
+
+    private Rule compile(@Nullable Object schema, String location) {
+      if (Boolean.TRUE.equals(schema)) {
+        return (node, path, violations) -> {};
+      } else if (Boolean.FALSE.equals(schema)) {
+        return (node, path, violations) ->
+            violations.add(String.format("%s: no value is allowed by schema", path));
+      } else if (!(schema instanceof Map<?, ?>)) {
+        throw new IllegalArgumentException(
+            String.format("Schema at \"%s\" must be an object or boolean", location));
+      }
+      var keywords = (Map<?, ?>) schema;
+      for (var keyword : UNSUPPORTED_KEYWORDS) {
+        if (keywords.containsKey(keyword)) {
+          throw new IllegalArgumentException(
+              String.format("Schema keyword \"%s\" at \"%s\" is not supported", keyword, location));
+        }
+      }
+      var rules = new ArrayList<Rule>();
+      var ref = keywords.get("$ref");
+      if (ref instanceof CharSequence) {
+        rules.add(refs.computeIfAbsent(ref.toString(), RefRule::new));
+      }
+      compileType(keywords.get("type"), rules);
+      compileEnum(keywords, rules);
+      compileNumeric(keywords, rules);
+      compileString(keywords, location, rules);
+      compileArray(keywords, location, rules);
+      compileObject(keywords, location, rules);
+      compileCombinators(keywords, location, rules);
+      compileConditional(keywords, location, rules);
+      if (rules.size() == 1) {
+        return rules.get(0);
+      }
+      var compiled = rules.toArray(new Rule[0]);
+      return (node, path, violations) -> {
+        for (var rule : compiled) {
+          rule.validate(node, path, violations);
+        }
+      };
+    }
+
+    private void compileType(@Nullable Object type, List<Rule> rules) {
+      if (type == null) {
+        return;
+      }
+      var allowed = new ArrayList<String>();
+      if (type instanceof List<?>) {
+        for (var item : (List<?>) type) {
+          allowed.add(String.valueOf(item));
+        }
+      } else {
+        allowed.add(String.valueOf(type));
+      }
+      var allowedTypes = allowed.toArray(new String[0]);
+      var description = allowed.size() == 1 ? allowed.get(0) : String.join(" or ", allowed);
+      rules.add(
+          (node, path, violations) -> {
+            var actualType = typeOf(node);
+            for (var allowedType : allowedTypes) {
+              if (allowedType.equals(actualType)
+                  || (allowedType.equals("number") && actualType.equals("integer"))) {
+                return;
+              }
+            }
+            violations.add(
+                String.format(
+                    "%s: expected type \"%s\" but was \"%s\"", path, description, actualType));
+          });
+    }
+
+    private void compileEnum(Map<?, ?> keywords, List<Rule> rules) {
+      if (keywords.containsKey("const")) {
+        var constant = keywords.get("const");
+        rules.add(
+            (node, path, violations) -> {
+              if (!JsonNodes.deepEquals(constant, node, false, new IdentityHashMap<>())) {
+                violations.add(
+                    String.format(
+                        "%s: expected constant <%s> but was <%s>",
+                        path,
+                        ValueFormatter.DEFAULT.formatJson(constant),
+                        ValueFormatter.DEFAULT.formatJson(node)));
+              }
+            });
+      }
+      var enumValues = keywords.get("enum");
+      if (enumValues instanceof List<?>) {
+        var allowed = (List<?>) enumValues;
+        rules.add(
+            (node, path, violations) -> {
+              for (var allowedValue : allowed) {
+                if (JsonNodes.deepEquals(allowedValue, node, false, new IdentityHashMap<>())) {
+                  return;
+                }
+              }
+              violations.add(
+                  String.format(
+                      "%s: value <%s> is not one of %s",
+                      path,
+                      ValueFormatter.DEFAULT.formatJson(node),
+                      ValueFormatter.DEFAULT.formatJson(allowed)));
+            });
+      }
+    }
+
+    private void compileNumeric(Map<?, ?> keywords, List<Rule> rules) {
+      var legacyExclusiveMinimum = Boolean.TRUE.equals(keywords.get("exclusiveMinimum"));
+      var legacyExclusiveMaximum = Boolean.TRUE.equals(keywords.get("exclusiveMaximum"));
+      var minimum = legacyExclusiveMinimum ? null : decimal(keywords.get("minimum"));
+      var maximum = legacyExclusiveMaximum ? null : decimal(keywords.get("maximum"));
+      var exclusiveMinimum =
+          decimal(keywords.get(legacyExclusiveMinimum ? "minimum" : "exclusiveMinimum"));
+      var exclusiveMaximum =
+          decimal(keywords.get(legacyExclusiveMaximum ? "maximum" : "exclusiveMaximum"));
+      var multipleOf = decimal(keywords.get("multipleOf"));
+      if (minimum == null
+          && maximum == null
+          && exclusiveMinimum == null
+          && exclusiveMaximum == null
+          && multipleOf == null) {
+        return;
+      }
+      rules.add(
+          (node, path, violations) -> {
+            if (!(node instanceof Number)) {
+              return;
+            }
+            var value = JsonNodes.normalizeNumber((Number) node);
+            if (minimum != null && value.compareTo(minimum) < 0) {
+              violations.add(
+                  String.format(
+                      "%s: expected number >= %s but was %s",
+                      path, minimum.toPlainString(), value.toPlainString()));
+            }
+            if (maximum != null && value.compareTo(maximum) > 0) {
+              violations.add(
+                  String.format(
+                      "%s: expected number <= %s but was %s",
+                      path, maximum.toPlainString(), value.toPlainString()));
+            }
+            if (exclusiveMinimum != null && value.compareTo(exclusiveMinimum) <= 0) {
+              violations.add(
+                  String.format(
+                      "%s: expected number > %s but was %s",
+                      path, exclusiveMinimum.toPlainString(), value.toPlainString()));
+            }
+            if (exclusiveMaximum != null && value.compareTo(exclusiveMaximum) >= 0) {
+              violations.add(
+                  String.format(
+                      "%s: expected number < %s but was %s",
+                      path, exclusiveMaximum.toPlainString(), value.toPlainString()));
+            }
+            if (multipleOf != null
+                && multipleOf.signum() != 0
+                && value.remainder(multipleOf).signum() != 0) {
+              violations.add(
+                  String.format(
+                      "%s: expected multiple of %s but was %s",
+                      path, multipleOf.toPlainString(), value.toPlainString()));
+            }
+          });
+    }
+
+    private void compileString(Map<?, ?> keywords, String location, List<Rule> rules) {
+      var minLength = integer(keywords.get("minLength"));
+      var maxLength = integer(keywords.get("maxLength"));
+      var patternValue = keywords.get("pattern");
+      var pattern = patternValue == null ? null : Pattern.compile(patternValue.toString());
+      var formatValue = keywords.get("format");
+      var format = formatValue == null ? null : format(formatValue.toString(), location);
+      if (minLength < 0 && maxLength < 0 && pattern == null && format == null) {
+        return;
+      }
+      rules.add(
+          (node, path, violations) -> {
+            if (!(node instanceof CharSequence)) {
+              return;
+            }
+            var value = node.toString();
+            if (minLength >= 0 || maxLength >= 0) {
+              var length = value.codePointCount(0, value.length());
+              if (minLength >= 0 && length < minLength) {
+                violations.add(
+                    String.format(
+                        "%s: expected string length >= %d but was %d", path, minLength, length));
+              }
+              if (maxLength >= 0 && length > maxLength) {
+                violations.add(
+                    String.format(
+                        "%s: expected string length <= %d but was %d", path, maxLength, length));
+              }
+            }
+            if (pattern != null && !pattern.matcher(value).find()) {
+              violations.add(
+                  String.format(
+                      "%s: string <%s> does not match pattern <%s>",
+                      path, ValueFormatter.DEFAULT.format(value), pattern.pattern()));
+            }
+            if (format != null && !format.test(value)) {
+              violations.add(
+                  String.format(
+                      "%s: string <%s> is not a valid \"%s\"",
+                      path, ValueFormatter.DEFAULT.format(value), formatValue));
+            }
+          });
+    }
+
+    private static Predicate<String> format(String format, String location) {
+      switch (format) {
+        case "date-time":
+          return value -> StringFormats.isDateTime(value, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+        case "date":
+          return value -> StringFormats.isDateTime(value, DateTimeFormatter.ISO_LOCAL_DATE);
+        case "time":
+          return value -> StringFormats.isDateTime(value, DateTimeFormatter.ISO_OFFSET_TIME);
+        case "uuid":
+          return StringFormats::isUuid;
+        case "email":
+          return StringFormats::isEmail;
+        case "regex":
+          return value -> {
+            try {
+              Pattern.compile(value);
+              return true;
+            } catch (PatternSyntaxException e) {
+              return false;
+            }
+          };
+        default:
+          throw new IllegalArgumentException(
+              String.format("Schema format \"%s\" at \"%s\" is not supported", format, location));
+      }
+    }
+
+    private void compileArray(Map<?, ?> keywords, String location, List<Rule> rules) {
+      var minItems = integer(keywords.get("minItems"));
+      var maxItems = integer(keywords.get("maxItems"));
+      var uniqueItems = Boolean.TRUE.equals(keywords.get("uniqueItems"));
+      var items = keywords.get("items");
+      @Nullable Rule itemsRule = null;
+      var tupleRules = new Rule[0];
+      if (items instanceof List<?>) {
+        var tuple = (List<?>) items;
+        tupleRules = new Rule[tuple.size()];
+        for (var idx = 0; idx < tuple.size(); idx++) {
+          tupleRules[idx] = compile(tuple.get(idx), location + "/items/" + idx);
+        }
+        if (keywords.containsKey("additionalItems")) {
+          itemsRule = compile(keywords.get("additionalItems"), location + "/additionalItems");
+        }
+      } else if (items != null) {
+        itemsRule = compile(items, location + "/items");
+      }
+      var containsRule =
+          keywords.containsKey("contains")
+              ? compile(keywords.get("contains"), location + "/contains")
+              : null;
+      if (minItems < 0
+          && maxItems < 0
+          && !uniqueItems
+          && itemsRule == null
+          && tupleRules.length == 0
+          && containsRule == null) {
+        return;
+      }
+      var finalItemsRule = itemsRule;
+      var finalTupleRules = tupleRules;
+      rules.add(
+          (node, path, violations) -> {
+            if (!(node instanceof List<?>)) {
+              return;
+            }
+            var list = (List<?>) node;
+            if (minItems >= 0 && list.size() < minItems) {
+              violations.add(
+                  String.format(
+                      "%s: expected at least %d array items but was %d",
+                      path, minItems, list.size()));
+            }
+            if (maxItems >= 0 && list.size() > maxItems) {
+              violations.add(
+                  String.format(
+                      "%s: expected at most %d array items but was %d",
+                      path, maxItems, list.size()));
+            }
+            var idx = 0;
+            for (var item : list) {
+              @Nullable Rule rule;
+              if (idx < finalTupleRules.length) {
+                rule = finalTupleRules[idx];
+              } else {
+                rule = finalItemsRule;
+              }
+              if (rule != null) {
+                rule.validate(item, JsonNodes.childPath(path, idx), violations);
+              }
+              idx++;
+            }
+            if (containsRule != null && !containsMatch(containsRule, list, path)) {
+              violations.add(
+                  String.format(
+                      "%s: expected array to contain an item matching \"contains\" schema", path));
+            }
+            if (uniqueItems && list.size() > 1) {
+              var hashes = new IdentityHashMap<Object, Long>();
+              var seen =
+                  new HashMap<Long, List<@Nullable Object>>(
+                      InternalUtils.tableCapacity(list.size()));
+              idx = 0;
+              for (var item : list) {
+                var bucket =
+                    seen.computeIfAbsent(
+                        JsonNodes.hash(item, false, hashes), k -> new ArrayList<>(1));
+                if (containsEqual(bucket, item, hashes)) {
+                  violations.add(
+                      String.format(
+                          "%s: expected unique array items, but item <%s> is duplicated",
+                          JsonNodes.childPath(path, idx), ValueFormatter.DEFAULT.formatJson(item)));
+                  break;
+                }
+                bucket.add(item);
+                idx++;
+              }
+            }
+          });
+    }
+
+    private void compileObject(Map<?, ?> keywords, String location, List<Rule> rules) {
+      var required = keywords.get("required");
+      var requiredNames = new ArrayList<String>();
+      if (required instanceof List<?>) {
+        for (var name : (List<?>) required) {
+          requiredNames.add(String.valueOf(name));
+        }
+      }
+      var propertyRules = new HashMap<String, Rule>();
+      var properties = keywords.get("properties");
+      if (properties instanceof Map<?, ?>) {
+        for (var entry : ((Map<?, ?>) properties).entrySet()) {
+          var name = String.valueOf(entry.getKey());
+          propertyRules.put(name, compile(entry.getValue(), location + "/properties/" + name));
+        }
+      }
+      var additionalProperties = keywords.get("additionalProperties");
+      @Nullable Rule additionalRule = null;
+      var additionalForbidden = Boolean.FALSE.equals(additionalProperties);
+      if (additionalProperties != null && !additionalForbidden) {
+        additionalRule = compile(additionalProperties, location + "/additionalProperties");
+      }
+      var patternProperties = keywords.get("patternProperties");
+      var patterns = new ArrayList<Pattern>();
+      var patternRules = new ArrayList<Rule>();
+      if (patternProperties instanceof Map<?, ?>) {
+        for (var entry : ((Map<?, ?>) patternProperties).entrySet()) {
+          var regex = String.valueOf(entry.getKey());
+          patterns.add(Pattern.compile(regex));
+          patternRules.add(compile(entry.getValue(), location + "/patternProperties/" + regex));
+        }
+      }
+      var propertyNamesRule =
+          keywords.containsKey("propertyNames")
+              ? compile(keywords.get("propertyNames"), location + "/propertyNames")
+              : null;
+      var dependentRequired = new HashMap<String, String[]>();
+      var dependentRules = new HashMap<String, Rule>();
+      compileDependencies(
+          keywords.get("dependencies"),
+          location + "/dependencies",
+          dependentRequired,
+          dependentRules);
+      compileDependencies(
+          keywords.get("dependentRequired"),
+          location + "/dependentRequired",
+          dependentRequired,
+          dependentRules);
+      compileDependencies(
+          keywords.get("dependentSchemas"),
+          location + "/dependentSchemas",
+          dependentRequired,
+          dependentRules);
+      var minProperties = integer(keywords.get("minProperties"));
+      var maxProperties = integer(keywords.get("maxProperties"));
+      if (requiredNames.isEmpty()
+          && propertyRules.isEmpty()
+          && patternRules.isEmpty()
+          && propertyNamesRule == null
+          && dependentRequired.isEmpty()
+          && dependentRules.isEmpty()
+          && additionalRule == null
+          && !additionalForbidden
+          && minProperties < 0
+          && maxProperties < 0) {
+        return;
+      }
+      var requiredArray = requiredNames.toArray(new String[0]);
+      var patternArray = patterns.toArray(new Pattern[0]);
+      var patternRuleArray = patternRules.toArray(new Rule[0]);
+      var finalAdditionalRule = additionalRule;
+      rules.add(
+          (node, path, violations) -> {
+            if (!(node instanceof Map<?, ?>)) {
+              return;
+            }
+            var object = (Map<?, ?>) node;
+            for (var name : requiredArray) {
+              if (!object.containsKey(name)) {
+                violations.add(
+                    String.format(
+                        "%s: required property is missing", JsonNodes.childPath(path, name)));
+              }
+            }
+            if (minProperties >= 0 && object.size() < minProperties) {
+              violations.add(
+                  String.format(
+                      "%s: expected at least %d properties but was %d",
+                      path, minProperties, object.size()));
+            }
+            if (maxProperties >= 0 && object.size() > maxProperties) {
+              violations.add(
+                  String.format(
+                      "%s: expected at most %d properties but was %d",
+                      path, maxProperties, object.size()));
+            }
+            for (var entry : object.entrySet()) {
+              var name = String.valueOf(entry.getKey());
+              var childPath = JsonNodes.childPath(path, name);
+              if (propertyNamesRule != null) {
+                propertyNamesRule.validate(name, childPath, violations);
+              }
+              var rule = propertyRules.get(name);
+              var matched = rule != null;
+              if (rule != null) {
+                rule.validate(entry.getValue(), childPath, violations);
+              }
+              for (var idx = 0; idx < patternArray.length; idx++) {
+                if (patternArray[idx].matcher(name).find()) {
+                  matched = true;
+                  patternRuleArray[idx].validate(entry.getValue(), childPath, violations);
+                }
+              }
+              if (matched) {
+                continue;
+              } else if (additionalForbidden) {
+                violations.add(String.format("%s: additional property is not allowed", childPath));
+              } else if (finalAdditionalRule != null) {
+                finalAdditionalRule.validate(entry.getValue(), childPath, violations);
+              }
+            }
+            for (var dependency : dependentRequired.entrySet()) {
+              if (object.containsKey(dependency.getKey())) {
+                for (var name : dependency.getValue()) {
+                  if (!object.containsKey(name)) {
+                    violations.add(
+                        String.format(
+                            "%s: property is required when \"%s\" is present",
+                            JsonNodes.childPath(path, name), dependency.getKey()));
+                  }
+                }
+              }
+            }
+            for (var dependency : dependentRules.entrySet()) {
+              if (object.containsKey(dependency.getKey())) {
+                dependency.getValue().validate(node, path, violations);
+              }
+            }
+          });
+    }
+
+    private void compileDependencies(
+        @Nullable Object dependencies,
+        String location,
+        Map<String, String[]> dependentRequired,
+        Map<String, Rule> dependentRules) {
+      if (!(dependencies instanceof Map<?, ?>)) {
+        return;
+      }
+      for (var entry : ((Map<?, ?>) dependencies).entrySet()) {
+        var name = String.valueOf(entry.getKey());
+        if (entry.getValue() instanceof List<?>) {
+          var names = (List<?>) entry.getValue();
+          var required = new String[names.size()];
+          for (var idx = 0; idx < required.length; idx++) {
+            required[idx] = String.valueOf(names.get(idx));
+          }
+          dependentRequired.put(name, required);
+        } else {
+          dependentRules.put(name, compile(entry.getValue(), location + "/" + name));
+        }
+      }
+    }
+
+    private void compileConditional(Map<?, ?> keywords, String location, List<Rule> rules) {
+      if (!keywords.containsKey("if")) {
+        return;
+      }
+      var ifRule = compile(keywords.get("if"), location + "/if");
+      var thenRule =
+          keywords.containsKey("then") ? compile(keywords.get("then"), location + "/then") : null;
+      var elseRule =
+          keywords.containsKey("else") ? compile(keywords.get("else"), location + "/else") : null;
+      rules.add(
+          (node, path, violations) -> {
+            var rule = matches(ifRule, node, path) ? thenRule : elseRule;
+            if (rule != null) {
+              rule.validate(node, path, violations);
+            }
+          });
+    }
+
+    private void compileCombinators(Map<?, ?> keywords, String location, List<Rule> rules) {
+      var allOf = compileList(keywords.get("allOf"), location + "/allOf");
+      if (allOf.length > 0) {
+        rules.add(
+            (node, path, violations) -> {
+              for (var rule : allOf) {
+                rule.validate(node, path, violations);
+              }
+            });
+      }
+      var anyOf = compileList(keywords.get("anyOf"), location + "/anyOf");
+      if (anyOf.length > 0) {
+        rules.add(
+            (node, path, violations) -> {
+              for (var rule : anyOf) {
+                if (matches(rule, node, path)) {
+                  return;
+                }
+              }
+              violations.add(
+                  String.format("%s: value does not match any of \"anyOf\" schemas", path));
+            });
+      }
+      var oneOf = compileList(keywords.get("oneOf"), location + "/oneOf");
+      if (oneOf.length > 0) {
+        rules.add(
+            (node, path, violations) -> {
+              var matched = 0;
+              for (var rule : oneOf) {
+                if (matches(rule, node, path)) {
+                  matched++;
+                }
+              }
+              if (matched != 1) {
+                violations.add(
+                    String.format(
+                        "%s: expected value to match exactly one of \"oneOf\" schemas, but matched %d",
+                        path, matched));
+              }
+            });
+      }
+      if (keywords.containsKey("not")) {
+        var not = compile(keywords.get("not"), location + "/not");
+        rules.add(
+            (node, path, violations) -> {
+              if (matches(not, node, path)) {
+                violations.add(String.format("%s: value must not match \"not\" schema", path));
+              }
+            });
+      }
+    }
+
+    private Rule[] compileList(@Nullable Object schemas, String location) {
+      if (!(schemas instanceof List<?>)) {
+        return new Rule[0];
+      }
+      var list = (List<?>) schemas;
+      var compiled = new Rule[list.size()];
+      for (var idx = 0; idx < list.size(); idx++) {
+        compiled[idx] = compile(list.get(idx), location + "/" + idx);
+      }
+      return compiled;
+    }
+
+    private static boolean containsEqual(
+        List<@Nullable Object> bucket,
+        @Nullable Object item,
+        IdentityHashMap<Object, Long> hashes) {
+      for (var candidate : bucket) {
+        if (JsonNodes.deepEquals(candidate, item, false, hashes)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static boolean containsMatch(Rule rule, List<?> list, String path) {
+      var idx = 0;
+      for (var item : list) {
+        if (matches(rule, item, JsonNodes.childPath(path, idx++))) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static boolean matches(Rule rule, @Nullable Object node, String path) {
+      var violations = new ArrayList<String>(0);
+      rule.validate(node, path, violations);
+      return violations.isEmpty();
+    }
+
+    private static @Nullable BigDecimal decimal(@Nullable Object value) {
+      return value instanceof Number ? JsonNodes.normalizeNumber((Number) value) : null;
+    }
+
+    private static int integer(@Nullable Object value) {
+      return value instanceof Number ? ((Number) value).intValue() : -1;
+    }
+  }
+
+  private static String typeOf(@Nullable Object node) {
+    if (node == null) {
+      return "null";
+    } else if (node instanceof Boolean) {
+      return "boolean";
+    } else if (node instanceof Map<?, ?>) {
+      return "object";
+    } else if (node instanceof List<?>) {
+      return "array";
+    } else if (node instanceof CharSequence) {
+      return "string";
+    } else if (node instanceof Integer || node instanceof Long || node instanceof BigInteger) {
+      return "integer";
+    } else if (node instanceof Number) {
+      return JsonNodes.normalizeNumber((Number) node).scale() <= 0 ? "integer" : "number";
+    }
+    return "unknown";
+  }
+}
@@ -0,0 +1,72 @@
+package com.varlanv.jsonassured;
+
+import com.jayway.jsonpath.JsonPath;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.jetbrains.annotations.Nullable;
+
+final class JsonSnapshots {
+
+  static final String UPDATE_PROPERTY = "jsonassured.snapshot.update";
+  static final String UPDATE_ENV = "JSON_ASSURED_UPDATE_SNAPSHOTS";
+
+  private JsonSnapshots() {}
+
+  static void assertMatches(@Nullable Object actual, Path snapshotFile, ValueFormatter formatter) {
+    var canonical = JsonNodes.toCanonicalJson(actual).getBytes(StandardCharsets.UTF_8);
+    try {
+      if (!Files.exists(snapshotFile)) {
+        if (isUpdateMode()) {
+          write(snapshotFile, canonical);
+          return;
+        }
+        throw new JsonAssertionError(
+            () ->
+                String.format(
+                    "Snapshot file \"%s\" does not exist%nRun with -D%s=true to create it",
+                    snapshotFile, UPDATE_PROPERTY));
+      }
+      var stored = Files.readAllBytes(snapshotFile);
+      if (Arrays.equals(canonical, stored)) {
+        return;
+      }
+      if (isUpdateMode()) {
+        write(snapshotFile, canonical);
+        return;
+      }
+      var expected = JsonPath.parse(new String(stored, StandardCharsets.UTF_8)).json();
+      var differences = JsonTreeDiff.diff("$", expected, actual, false, false, formatter);
+      if (differences.isEmpty()) {
+        return;
+      }
+      throw new JsonAssertionError(
+          () ->
+              String.format(
+                  "JSON does not match snapshot \"%s\", found %d difference(s):%n%s%nRun with -D%s=true to update snapshots",
+                  snapshotFile,
+                  differences.size(),
+                  InternalUtils.formatDifferences(differences),
+                  UPDATE_PROPERTY));
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("Failed to access snapshot file \"%s\"", snapshotFile), e);
+    }
+  }
+
+  static boolean isUpdateMode() {
+    return Boolean.parseBoolean(System.getProperty(UPDATE_PROPERTY))
+        || Boolean.parseBoolean(System.getenv(UPDATE_ENV));
+  }
+
+  private static void write(Path snapshotFile, byte[] content) throws IOException {
+    var parent = snapshotFile.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    Files.write(snapshotFile, content);
+  }
+}
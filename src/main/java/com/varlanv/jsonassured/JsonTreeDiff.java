@@ -0,0 +1,187 @@
+package com.varlanv.jsonassured;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.Nullable;
+
+final class JsonTreeDiff {
+
+  private final boolean ignoreArrayOrder;
+  private final boolean ignoreExtraFields;
+  private final IdentityHashMap<Object, Long> hashes;
+  private final ValueFormatter formatter;
+  private final List<String> differences = new ArrayList<>();
+
+  private JsonTreeDiff(
+      boolean ignoreArrayOrder,
+      boolean ignoreExtraFields,
+      IdentityHashMap<Object, Long> hashes,
+      ValueFormatter formatter) {
+    this.ignoreArrayOrder = ignoreArrayOrder;
+    this.ignoreExtraFields = ignoreExtraFields;
+    this.hashes = hashes;
+    this.formatter = formatter;
+  }
+
+  static List<String> diff(
+      String rootPath,
+      @Nullable Object expected,
+      @Nullable Object actual,
+      boolean ignoreArrayOrder,
+      boolean ignoreExtraFields,
+      ValueFormatter formatter) {
+    var treeDiff =
+        new JsonTreeDiff(ignoreArrayOrder, ignoreExtraFields, new IdentityHashMap<>(), formatter);
+    treeDiff.compare(rootPath, expected, actual);
+    return treeDiff.differences;
+  }
+
+  private long hash(@Nullable Object node) {
+    return JsonNodes.hash(node, ignoreArrayOrder, hashes);
+  }
+
+  private void compare(String path, @Nullable Object expected, @Nullable Object actual) {
+    if (hash(expected) == hash(actual)
+        && JsonNodes.deepEquals(expected, actual, ignoreArrayOrder, hashes)) {
+      return;
+    }
+    if (expected instanceof Map<?, ?> && actual instanceof Map<?, ?>) {
+      compareObjects(path, (Map<?, ?>) expected, (Map<?, ?>) actual);
+    } else if (expected instanceof List<?> && actual instanceof List<?>) {
+      if (ignoreArrayOrder) {
+        compareUnorderedArrays(path, (List<?>) expected, (List<?>) actual);
+      } else {
+        compareOrderedArrays(path, (List<?>) expected, (List<?>) actual);
+      }
+    } else if (!JsonNodes.scalarEquals(expected, actual)) {
+      differences.add(
+          String.format(
+              "%s: expected <%s> but was <%s>",
+              path, formatter.formatJson(expected), formatter.formatJson(actual)));
+    }
+  }
+
+  private void compareObjects(String path, Map<?, ?> expected, Map<?, ?> actual) {
+    for (var entry : expected.entrySet()) {
+      var key = String.valueOf(entry.getKey());
+      var childPath = JsonNodes.childPath(path, key);
+      if (actual.containsKey(key)) {
+        compare(childPath, entry.getValue(), actual.get(key));
+      } else {
+        differences.add(
+            String.format(
+                "%s: expected field with value <%s> but field was missing",
+                childPath, formatter.formatJson(entry.getValue())));
+      }
+    }
+    if (!ignoreExtraFields) {
+      for (var entry : actual.entrySet()) {
+        var key = String.valueOf(entry.getKey());
+        if (!expected.containsKey(key)) {
+          differences.add(
+              String.format(
+                  "%s: unexpected field with value <%s>",
+                  JsonNodes.childPath(path, key), formatter.formatJson(entry.getValue())));
+        }
+      }
+    }
+  }
+
+  private void compareOrderedArrays(String path, List<?> expected, List<?> actual) {
+    var commonSize = Math.min(expected.size(), actual.size());
+    for (var idx = 0; idx < commonSize; idx++) {
+      compare(JsonNodes.childPath(path, idx), expected.get(idx), actual.get(idx));
+    }
+    for (var idx = commonSize; idx < expected.size(); idx++) {
+      differences.add(
+          String.format(
+              "%s: expected element <%s> but array has size %d",
+              JsonNodes.childPath(path, idx),
+              formatter.formatJson(expected.get(idx)),
+              actual.size()));
+    }
+    for (var idx = commonSize; idx < actual.size(); idx++) {
+      differences.add(
+          String.format(
+              "%s: unexpected element <%s>",
+              JsonNodes.childPath(path, idx), formatter.formatJson(actual.get(idx))));
+    }
+  }
+
+  private void compareUnorderedArrays(String path, List<?> expected, List<?> actual) {
+    var actualByHash = new HashMap<Long, ArrayDeque<Integer>>();
+    for (var idx = 0; idx < actual.size(); idx++) {
+      actualByHash.computeIfAbsent(hash(actual.get(idx)), k -> new ArrayDeque<>()).add(idx);
+    }
+    var matchedActual = new boolean[actual.size()];
+    var unmatchedExpected = new ArrayList<Integer>();
+    for (var idx = 0; idx < expected.size(); idx++) {
+      var candidates = actualByHash.get(hash(expected.get(idx)));
+      var match = candidates == null ? -1 : takeEqual(candidates, expected.get(idx), actual);
+      if (match < 0) {
+        unmatchedExpected.add(idx);
+      } else {
+        matchedActual[match] = true;
+      }
+    }
+    if (ignoreExtraFields) {
+      for (var iterator = unmatchedExpected.iterator(); iterator.hasNext(); ) {
+        var expectedItem = expected.get(iterator.next());
+        for (var idx = 0; idx < actual.size(); idx++) {
+          if (!matchedActual[idx] && isSubsetOf(expectedItem, actual.get(idx))) {
+            matchedActual[idx] = true;
+            iterator.remove();
+            break;
+          }
+        }
+      }
+    }
+    var unmatchedActual = new ArrayList<Integer>();
+    for (var idx = 0; idx < actual.size(); idx++) {
+      if (!matchedActual[idx]) {
+        unmatchedActual.add(idx);
+      }
+    }
+    if (unmatchedExpected.size() == 1 && unmatchedActual.size() == 1) {
+      var actualIdx = unmatchedActual.get(0);
+      compare(
+          JsonNodes.childPath(path, actualIdx),
+          expected.get(unmatchedExpected.get(0)),
+          actual.get(actualIdx));
+      return;
+    }
+    for (var idx : unmatchedExpected) {
+      differences.add(
+          String.format(
+              "%s: expected element <%s> (index [%d] in expected JSON) was not found in array",
+              path, formatter.formatJson(expected.get(idx)), idx));
+    }
+    for (var idx : unmatchedActual) {
+      differences.add(
+          String.format(
+              "%s: unexpected element <%s>",
+              JsonNodes.childPath(path, idx), formatter.formatJson(actual.get(idx))));
+    }
+  }
+
+  private int takeEqual(ArrayDeque<Integer> candidates, @Nullable Object expected, List<?> actual) {
+    for (var iterator = candidates.iterator(); iterator.hasNext(); ) {
+      var idx = iterator.next();
+      if (JsonNodes.deepEquals(expected, actual.get(idx), ignoreArrayOrder, hashes)) {
+        iterator.remove();
+        return idx;
+      }
+    }
+    return -1;
+  }
+
+  private boolean isSubsetOf(@Nullable Object expected, @Nullable Object actual) {
+    var nested = new JsonTreeDiff(ignoreArrayOrder, ignoreExtraFields, hashes, formatter);
+    nested.compare("$", expected, actual);
+    return nested.differences.isEmpty();
+  }
+}
@@ -5,8 +5,8 @@ import org.jetbrains.annotations.Nullable;
 
 final class MemoizedSupplier<T> implements Supplier<T> {
 
-  private Supplier<T> supplier;
-  @Nullable private T value;
+  @Nullable private Supplier<T> supplier;
+  @Nullable private volatile T value;
 
   MemoizedSupplier(Supplier<T> supplier) {
     this.supplier = supplier;
@@ -18,9 +18,18 @@ final class MemoizedSupplier<T> implements Supplier<T> {
     if (val != null) {
       return val;
     }
-    val = supplier.get();
-    value = val;
-    supplier = null;
-    return val;
+    synchronized (this) {
+      val = value;
+      if (val == null) {
+        var delegate = supplier;
+        if (delegate == null) {
+          throw new IllegalStateException("Memoized supplier produced null value");
+        }
+        val = delegate.get();
+        value = val;
+        supplier = null;
+      }
+      return val;
+    }
   }
 }
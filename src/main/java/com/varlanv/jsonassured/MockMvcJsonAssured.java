@@ -0,0 +1,24 @@
+package com.varlanv.jsonassured;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+public interface MockMvcJsonAssured {
+
+  static ResultMatcher jsonPathSpec(
+      JsonAssured.ThrowingConsumer<JsonAssured.JsonPathAssertions> consumer) {
+    return jsonPathSpec(JsonAssuredConfig.defaults(), consumer);
+  }
+
+  static ResultMatcher jsonPathSpec(
+      JsonAssuredConfig config,
+      JsonAssured.ThrowingConsumer<JsonAssured.JsonPathAssertions> consumer) {
+    return result -> {
+      var responseBody = result.getResponse().getContentAsByteArray();
+      try {
+        consumer.accept(JsonAssured.assertJson(responseBody, config));
+      } catch (Throwable e) {
+        InternalUtils.rethrow(e);
+      }
+    };
+  }
+}
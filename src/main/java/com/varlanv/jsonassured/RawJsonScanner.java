@@ -0,0 +1,395 @@
+package com.varlanv.jsonassured;
+
+final class RawJsonScanner {
+
+  private static final long NOT_FOUND = -1L;
+  private static final int MAX_DEPTH = 512;
+  private static final int UNKNOWN = 0;
+  private static final int WELL_FORMED = 1;
+  private static final int MALFORMED = 2;
+
+  private final byte[] bytes;
+  private volatile int syntax;
+
+  RawJsonScanner(byte[] bytes) {
+    this(bytes, false);
+  }
+
+  RawJsonScanner(byte[] bytes, boolean parsed) {
+    this.bytes = bytes;
+    this.syntax = parsed ? WELL_FORMED : UNKNOWN;
+  }
+
+  long findString(String jsonPath) {
+    if (!isWellFormed()) {
+      return NOT_FOUND;
+    }
+    var path = JsonPathStream.parse(jsonPath);
+    if (path == null) {
+      return NOT_FOUND;
+    }
+    var pos = skipWhitespace(skipBom());
+    for (var segment = 0; segment < path.size() && pos >= 0; segment++) {
+      var kind = path.kind(segment);
+      if (kind == JsonPathStream.PROPERTY) {
+        pos = findMember(pos, path.name(segment));
+      } else if (kind == JsonPathStream.INDEX) {
+        pos = findElement(pos, path.index(segment));
+      } else {
+        return NOT_FOUND;
+      }
+    }
+    if (pos < 0 || pos >= bytes.length || bytes[pos] != '"') {
+      return NOT_FOUND;
+    }
+    for (var end = pos + 1; end < bytes.length; end++) {
+      var b = bytes[end];
+      if (b == '\\') {
+        return NOT_FOUND;
+      } else if (b == '"') {
+        return ((long) (pos + 1) << 32) | end;
+      }
+    }
+    return NOT_FOUND;
+  }
+
+  boolean sliceEquals(long slice, CharSequence expected) {
+    return slice >= 0 && equalsUtf8((int) (slice >>> 32), (int) slice, expected);
+  }
+
+  boolean isWellFormed() {
+    var state = syntax;
+    if (state == UNKNOWN) {
+      var end = skipWhitespace(checkValue(skipWhitespace(skipBom()), 0));
+      state = end == bytes.length ? WELL_FORMED : MALFORMED;
+      syntax = state;
+    }
+    return state == WELL_FORMED;
+  }
+
+  private int checkValue(int start, int depth) {
+    if (start < 0 || start >= bytes.length || depth > MAX_DEPTH) {
+      return -1;
+    }
+    switch (bytes[start]) {
+      case '{':
+        return checkObject(start, depth + 1);
+      case '[':
+        return checkArray(start, depth + 1);
+      case '"':
+        return checkString(start);
+      case 't':
+        return checkLiteral(start, "true");
+      case 'f':
+        return checkLiteral(start, "false");
+      case 'n':
+        return checkLiteral(start, "null");
+      default:
+        return checkNumber(start);
+    }
+  }
+
+  private int checkObject(int start, int depth) {
+    var pos = skipWhitespace(start + 1);
+    if (pos < bytes.length && bytes[pos] == '}') {
+      return pos + 1;
+    }
+    while (pos >= 0 && pos < bytes.length && bytes[pos] == '"') {
+      pos = skipWhitespace(checkString(pos));
+      if (pos < 0 || pos >= bytes.length || bytes[pos] != ':') {
+        return -1;
+      }
+      pos = skipWhitespace(checkValue(skipWhitespace(pos + 1), depth));
+      if (pos < 0 || pos >= bytes.length) {
+        return -1;
+      } else if (bytes[pos] == '}') {
+        return pos + 1;
+      } else if (bytes[pos] != ',') {
+        return -1;
+      }
+      pos = skipWhitespace(pos + 1);
+    }
+    return -1;
+  }
+
+  private int checkArray(int start, int depth) {
+    var pos = skipWhitespace(start + 1);
+    if (pos < bytes.length && bytes[pos] == ']') {
+      return pos + 1;
+    }
+    while (pos >= 0 && pos < bytes.length) {
+      pos = skipWhitespace(checkValue(pos, depth));
+      if (pos < 0 || pos >= bytes.length) {
+        return -1;
+      } else if (bytes[pos] == ']') {
+        return pos + 1;
+      } else if (bytes[pos] != ',') {
+        return -1;
+      }
+      pos = skipWhitespace(pos + 1);
+    }
+    return -1;
+  }
+
+  private int checkString(int quote) {
+    for (var pos = quote + 1; pos < bytes.length; pos++) {
+      var b = bytes[pos];
+      if (b == '"') {
+        return pos + 1;
+      } else if (b >= 0 && b < 0x20) {
+        return -1;
+      } else if (b == '\\') {
+        if (++pos >= bytes.length) {
+          return -1;
+        }
+        var escaped = bytes[pos];
+        if (escaped == 'u') {
+          if (pos + 4 >= bytes.length) {
+            return -1;
+          }
+          for (var idx = pos + 1; idx <= pos + 4; idx++) {
+            if (Character.digit(bytes[idx], 16) < 0) {
+              return -1;
+            }
+          }
+          pos += 4;
+        } else if ("\"\\/bfnrt".indexOf(escaped) < 0) {
+          return -1;
+        }
+      }
+    }
+    return -1;
+  }
+
+  private int checkLiteral(int start, String literal) {
+    var end = start + literal.length();
+    if (end > bytes.length) {
+      return -1;
+    }
+    for (var idx = 0; idx < literal.length(); idx++) {
+      if (bytes[start + idx] != literal.charAt(idx)) {
+        return -1;
+      }
+    }
+    return end;
+  }
+
+  private int checkNumber(int start) {
+    var pos = start;
+    if (bytes[pos] == '-') {
+      pos++;
+    }
+    if (pos < bytes.length && bytes[pos] == '0') {
+      pos++;
+    } else {
+      var digits = digitsEnd(pos);
+      if (digits == pos) {
+        return -1;
+      }
+      pos = digits;
+    }
+    if (pos < bytes.length && bytes[pos] == '.') {
+      var digits = digitsEnd(pos + 1);
+      if (digits == pos + 1) {
+        return -1;
+      }
+      pos = digits;
+    }
+    if (pos < bytes.length && (bytes[pos] == 'e' || bytes[pos] == 'E')) {
+      pos++;
+      if (pos < bytes.length && (bytes[pos] == '+' || bytes[pos] == '-')) {
+        pos++;
+      }
+      var digits = digitsEnd(pos);
+      if (digits == pos) {
+        return -1;
+      }
+      pos = digits;
+    }
+    return pos;
+  }
+
+  private int digitsEnd(int start) {
+    var pos = start;
+    while (pos < bytes.length && bytes[pos] >= '0' && bytes[pos] <= '9') {
+      pos++;
+    }
+    return pos;
+  }
+
+  private boolean equalsUtf8(int start, int end, CharSequence expected) {
+    var pos = start;
+    var length = expected.length();
+    for (var idx = 0; idx < length; idx++) {
+      var ch = expected.charAt(idx);
+      if (ch < 0x80) {
+        if (pos >= end || bytes[pos++] != ch) {
+          return false;
+        }
+      } else if (ch < 0x800) {
+        if (pos + 2 > end
+            || bytes[pos++] != (byte) (0xC0 | (ch >> 6))
+            || bytes[pos++] != (byte) (0x80 | (ch & 0x3F))) {
+          return false;
+        }
+      } else if (Character.isSurrogate(ch)) {
+        if (!Character.isHighSurrogate(ch)
+            || idx + 1 >= length
+            || !Character.isLowSurrogate(expected.charAt(idx + 1))) {
+          return false;
+        }
+        var codePoint = Character.toCodePoint(ch, expected.charAt(++idx));
+        if (pos + 4 > end
+            || bytes[pos++] != (byte) (0xF0 | (codePoint >> 18))
+            || bytes[pos++] != (byte) (0x80 | ((codePoint >> 12) & 0x3F))
+            || bytes[pos++] != (byte) (0x80 | ((codePoint >> 6) & 0x3F))
+            || bytes[pos++] != (byte) (0x80 | (codePoint & 0x3F))) {
+          return false;
+        }
+      } else {
+        if (pos + 3 > end
+            || bytes[pos++] != (byte) (0xE0 | (ch >> 12))
+            || bytes[pos++] != (byte) (0x80 | ((ch >> 6) & 0x3F))
+            || bytes[pos++] != (byte) (0x80 | (ch & 0x3F))) {
+          return false;
+        }
+      }
+    }
+    return pos == end;
+  }
+
+  private int findMember(int start, String name) {
+    if (start >= bytes.length || bytes[start] != '{') {
+      return -1;
+    }
+    var pos = skipWhitespace(start + 1);
+    if (pos < bytes.length && bytes[pos] == '}') {
+      return -1;
+    }
+    var found = -1;
+    while (pos >= 0 && pos < bytes.length && bytes[pos] == '"') {
+      var keyEnd = stringEnd(pos);
+      if (keyEnd < 0) {
+        return -1;
+      }
+      for (var idx = pos + 1; idx < keyEnd; idx++) {
+        if (bytes[idx] == '\\') {
+          return -1;
+        }
+      }
+      var matches = equalsUtf8(pos + 1, keyEnd, name);
+      pos = skipWhitespace(keyEnd + 1);
+      if (pos >= bytes.length || bytes[pos] != ':') {
+        return -1;
+      }
+      pos = skipWhitespace(pos + 1);
+      if (matches) {
+        found = pos;
+      }
+      pos = skipWhitespace(skipValue(pos));
+      if (pos < 0 || pos >= bytes.length) {
+        return -1;
+      } else if (bytes[pos] == '}') {
+        return found;
+      } else if (bytes[pos] != ',') {
+        return -1;
+      }
+      pos = skipWhitespace(pos + 1);
+    }
+    return -1;
+  }
+
+  private int findElement(int start, int index) {
+    if (start >= bytes.length || bytes[start] != '[') {
+      return -1;
+    }
+    var pos = skipWhitespace(start + 1);
+    if (pos < bytes.length && bytes[pos] == ']') {
+      return -1;
+    }
+    for (var idx = 0; pos >= 0 && pos < bytes.length; idx++) {
+      if (idx == index) {
+        return pos;
+      }
+      pos = skipWhitespace(skipValue(pos));
+      if (pos < 0 || pos >= bytes.length || bytes[pos] != ',') {
+        return -1;
+      }
+      pos = skipWhitespace(pos + 1);
+    }
+    return -1;
+  }
+
+  private int skipValue(int start) {
+    if (start < 0 || start >= bytes.length) {
+      return -1;
+    }
+    var first = bytes[start];
+    if (first == '"') {
+      var end = stringEnd(start);
+      return end < 0 ? -1 : end + 1;
+    } else if (first == '{' || first == '[') {
+      var depth = 0;
+      for (var pos = start; pos < bytes.length; pos++) {
+        var b = bytes[pos];
+        if (b == '"') {
+          pos = stringEnd(pos);
+          if (pos < 0) {
+            return -1;
+          }
+        } else if (b == '{' || b == '[') {
+          depth++;
+        } else if ((b == '}' || b == ']') && --depth == 0) {
+          return pos + 1;
+        }
+      }
+      return -1;
+    }
+    var pos = start;
+    while (pos < bytes.length) {
+      var b = bytes[pos];
+      if (b == ',' || b == '}' || b == ']' || isWhitespace(b)) {
+        break;
+      }
+      pos++;
+    }
+    return pos == start ? -1 : pos;
+  }
+
+  private int stringEnd(int quote) {
+    for (var pos = quote + 1; pos < bytes.length; pos++) {
+      var b = bytes[pos];
+      if (b == '\\') {
+        pos++;
+      } else if (b == '"') {
+        return pos;
+      }
+    }
+    return -1;
+  }
+
+  private int skipBom() {
+    if (bytes.length >= 3
+        && bytes[0] == (byte) 0xEF
+        && bytes[1] == (byte) 0xBB
+        && bytes[2] == (byte) 0xBF) {
+      return 3;
+    }
+    return 0;
+  }
+
+  private int skipWhitespace(int start) {
+    if (start < 0) {
+      return -1;
+    }
+    var pos = start;
+    while (pos < bytes.length && isWhitespace(bytes[pos])) {
+      pos++;
+    }
+    return pos;
+  }
+
+  private static boolean isWhitespace(byte b) {
+    return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+  }
+}
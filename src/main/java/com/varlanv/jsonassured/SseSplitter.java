@@ -0,0 +1,96 @@
+package com.varlanv.jsonassured;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class SseSplitter implements ChunkSplitter {
+
+  private byte[] line = new byte[256];
+  private int lineLength;
+  private byte[] data = new byte[256];
+  private int dataLength;
+  private boolean hasData;
+  private boolean afterCarriageReturn;
+  private boolean started;
+
+  @Override
+  public List<byte[]> feed(ByteBuffer chunk) {
+    var events = new ArrayList<byte[]>();
+    while (chunk.hasRemaining()) {
+      var b = chunk.get();
+      if (afterCarriageReturn) {
+        afterCarriageReturn = false;
+        if (b == '\n') {
+          continue;
+        }
+      }
+      if (b == '\r' || b == '\n') {
+        afterCarriageReturn = b == '\r';
+        endLine(events);
+      } else {
+        line = append(line, lineLength++, b);
+      }
+    }
+    return events;
+  }
+
+  @Override
+  public List<byte[]> finish() {
+    return List.of();
+  }
+
+  private void endLine(List<byte[]> events) {
+    var start = 0;
+    if (!started) {
+      started = true;
+      if (lineLength >= 3
+          && line[0] == (byte) 0xEF
+          && line[1] == (byte) 0xBB
+          && line[2] == (byte) 0xBF) {
+        start = 3;
+      }
+    }
+    var length = lineLength;
+    lineLength = 0;
+    if (length == start) {
+      if (dataLength > 0) {
+        events.add(Arrays.copyOf(data, dataLength));
+      }
+      dataLength = 0;
+      hasData = false;
+      return;
+    }
+    if (length - start < 4
+        || line[start] != 'd'
+        || line[start + 1] != 'a'
+        || line[start + 2] != 't'
+        || line[start + 3] != 'a') {
+      return;
+    }
+    var valueStart = start + 4;
+    if (valueStart < length) {
+      if (line[valueStart] != ':') {
+        return;
+      }
+      valueStart++;
+      if (valueStart < length && line[valueStart] == ' ') {
+        valueStart++;
+      }
+    }
+    if (hasData) {
+      data = append(data, dataLength++, (byte) '\n');
+    }
+    hasData = true;
+    for (var idx = valueStart; idx < length; idx++) {
+      data = append(data, dataLength++, line[idx]);
+    }
+  }
+
+  private static byte[] append(byte[] target, int position, byte b) {
+    var result = position == target.length ? Arrays.copyOf(target, position * 2) : target;
+    result[position] = b;
+    return result;
+  }
+}
@@ -0,0 +1,127 @@
+package com.varlanv.jsonassured;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class StreamSplitter implements ChunkSplitter {
+
+  private static final int UNKNOWN = 0;
+  private static final int ARRAY = 1;
+  private static final int NDJSON = 2;
+  private static final int DONE = 3;
+
+  private final WebFluxJsonAssured.JsonStreamFraming framing;
+  private int mode = UNKNOWN;
+  private int depth;
+  private boolean inString;
+  private boolean escape;
+  private byte[] element = new byte[256];
+  private int length;
+
+  StreamSplitter(WebFluxJsonAssured.JsonStreamFraming framing) {
+    this.framing = framing;
+  }
+
+  @Override
+  public List<byte[]> feed(ByteBuffer chunk) {
+    var elements = new ArrayList<byte[]>();
+    while (chunk.hasRemaining()) {
+      accept(chunk.get(), elements);
+    }
+    return elements;
+  }
+
+  @Override
+  public List<byte[]> finish() {
+    if (inString || depth > 0) {
+      throw new JsonAssertionError("Streamed JSON ended before element was complete");
+    } else if (mode == ARRAY
+        || (mode == UNKNOWN && framing == WebFluxJsonAssured.JsonStreamFraming.ARRAY)) {
+      throw new JsonAssertionError("Streamed JSON array was not closed");
+    } else if (length > 0) {
+      return List.of(emit());
+    }
+    return List.of();
+  }
+
+  private void accept(byte b, List<byte[]> elements) {
+    if (mode == UNKNOWN) {
+      if (isWhitespace(b)) {
+        return;
+      } else if (b == '[' && framing != WebFluxJsonAssured.JsonStreamFraming.NDJSON) {
+        mode = ARRAY;
+        return;
+      } else if (framing == WebFluxJsonAssured.JsonStreamFraming.ARRAY) {
+        throw new JsonAssertionError(
+            String.format(
+                "Expected streamed JSON array to start with '[', but was '%s'", (char) b));
+      }
+      mode = NDJSON;
+    } else if (mode == DONE) {
+      if (!isWhitespace(b)) {
+        throw new JsonAssertionError(
+            String.format(
+                "Unexpected character '%s' after the end of streamed JSON array", (char) b));
+      }
+      return;
+    }
+    if (inString) {
+      append(b);
+      if (escape) {
+        escape = false;
+      } else if (b == '\\') {
+        escape = true;
+      } else if (b == '"') {
+        inString = false;
+      }
+      return;
+    }
+    if (depth == 0) {
+      if (mode == ARRAY && (b == ',' || b == ']')) {
+        if (length > 0) {
+          elements.add(emit());
+        } else if (b == ',') {
+          throw new JsonAssertionError("Streamed JSON array contains an empty element");
+        }
+        if (b == ']') {
+          mode = DONE;
+        }
+        return;
+      } else if (mode == NDJSON && b == '\n') {
+        if (length > 0) {
+          elements.add(emit());
+        }
+        return;
+      } else if (length == 0 && isWhitespace(b)) {
+        return;
+      }
+    }
+    append(b);
+    if (b == '"') {
+      inString = true;
+    } else if (b == '{' || b == '[') {
+      depth++;
+    } else if (b == '}' || b == ']') {
+      depth--;
+    }
+  }
+
+  private void append(byte b) {
+    if (length == element.length) {
+      element = Arrays.copyOf(element, length * 2);
+    }
+    element[length++] = b;
+  }
+
+  private byte[] emit() {
+    var result = Arrays.copyOf(element, length);
+    length = 0;
+    return result;
+  }
+
+  private static boolean isWhitespace(byte b) {
+    return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+  }
+}
@@ -0,0 +1,234 @@
+package com.varlanv.jsonassured;
+
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+final class StringFormats {
+
+  private static final int MAX_CACHED = 256;
+  private static final ConcurrentHashMap<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+  private static final ConcurrentHashMap<String, DateTimeFormatter> FORMATTERS =
+      new ConcurrentHashMap<>();
+
+  private StringFormats() {}
+
+  static Pattern pattern(String regex) {
+    var cached = PATTERNS.get(regex);
+    if (cached != null) {
+      return cached;
+    }
+    var compiled = Pattern.compile(regex);
+    if (PATTERNS.size() < MAX_CACHED) {
+      var existing = PATTERNS.putIfAbsent(regex, compiled);
+      return existing == null ? compiled : existing;
+    }
+    return compiled;
+  }
+
+  static DateTimeFormatter formatter(String pattern) {
+    var cached = FORMATTERS.get(pattern);
+    if (cached != null) {
+      return cached;
+    }
+    var formatter = DateTimeFormatter.ofPattern(pattern);
+    if (FORMATTERS.size() < MAX_CACHED) {
+      var existing = FORMATTERS.putIfAbsent(pattern, formatter);
+      return existing == null ? formatter : existing;
+    }
+    return formatter;
+  }
+
+  static boolean isDateTime(String value, DateTimeFormatter formatter) {
+    try {
+      formatter.parse(value);
+      return true;
+    } catch (DateTimeParseException e) {
+      return false;
+    }
+  }
+
+  static boolean isIsoInstant(String value) {
+    var length = value.length();
+    if (length < 20 || !isDate(value, 0) || value.charAt(10) != 'T' || !isTime(value, 11)) {
+      return false;
+    }
+    var pos = 19;
+    if (value.charAt(pos) == '.') {
+      var start = ++pos;
+      while (pos < length && isDigit(value.charAt(pos))) {
+        pos++;
+      }
+      var digits = pos - start;
+      if (digits < 1 || digits > 9) {
+        return false;
+      }
+    }
+    return pos == length - 1 && value.charAt(pos) == 'Z';
+  }
+
+  static boolean isIsoDate(String value) {
+    var length = value.length();
+    if (length < 10 || !isDate(value, 0)) {
+      return false;
+    } else if (length == 10) {
+      return true;
+    } else if (length == 11) {
+      return value.charAt(10) == 'Z';
+    }
+    return length == 16 && isOffset(value, 10);
+  }
+
+  static boolean isUuid(String value) {
+    if (value.length() != 36) {
+      return false;
+    }
+    for (var idx = 0; idx < 36; idx++) {
+      var ch = value.charAt(idx);
+      if (idx == 8 || idx == 13 || idx == 18 || idx == 23) {
+        if (ch != '-') {
+          return false;
+        }
+      } else if (!isHex(ch)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static boolean isBase64(String value) {
+    var length = value.length();
+    if (length == 0) {
+      return false;
+    }
+    var padding = 0;
+    if (value.charAt(length - 1) == '=') {
+      padding = length > 1 && value.charAt(length - 2) == '=' ? 2 : 1;
+    }
+    if (padding > 0 ? length % 4 != 0 : length % 4 == 1) {
+      return false;
+    }
+    for (var idx = 0; idx < length - padding; idx++) {
+      var ch = value.charAt(idx);
+      if (!((ch >= 'A' && ch <= 'Z')
+          || (ch >= 'a' && ch <= 'z')
+          || isDigit(ch)
+          || ch == '+'
+          || ch == '/')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static boolean isEmail(String value) {
+    var at = value.indexOf('@');
+    if (at < 1 || at > 64 || at != value.lastIndexOf('@')) {
+      return false;
+    }
+    for (var idx = 0; idx < at; idx++) {
+      var ch = value.charAt(idx);
+      if (ch == '.') {
+        if (idx == 0 || idx == at - 1 || value.charAt(idx - 1) == '.') {
+          return false;
+        }
+      } else if (!isLetterOrDigit(ch) && "!#$%&'*+/=?^_`{|}~-".indexOf(ch) < 0) {
+        return false;
+      }
+    }
+    var length = value.length();
+    if (length - at - 1 > 253) {
+      return false;
+    }
+    var labels = 0;
+    var labelStart = at + 1;
+    for (var idx = labelStart; idx <= length; idx++) {
+      if (idx == length || value.charAt(idx) == '.') {
+        var labelLength = idx - labelStart;
+        if (labelLength < 1
+            || labelLength > 63
+            || value.charAt(labelStart) == '-'
+            || value.charAt(idx - 1) == '-') {
+          return false;
+        }
+        labels++;
+        labelStart = idx + 1;
+      } else {
+        var ch = value.charAt(idx);
+        if (!isLetterOrDigit(ch) && ch != '-') {
+          return false;
+        }
+      }
+    }
+    return labels > 1;
+  }
+
+  private static boolean isDate(String value, int start) {
+    if (value.charAt(start + 4) != '-' || value.charAt(start + 7) != '-') {
+      return false;
+    }
+    var year = digits(value, start, 4);
+    var month = digits(value, start + 5, 2);
+    var day = digits(value, start + 8, 2);
+    return year >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= daysInMonth(year, month);
+  }
+
+  private static boolean isTime(String value, int start) {
+    if (value.charAt(start + 2) != ':' || value.charAt(start + 5) != ':') {
+      return false;
+    }
+    var hour = digits(value, start, 2);
+    var minute = digits(value, start + 3, 2);
+    var second = digits(value, start + 6, 2);
+    return hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59 && second >= 0 && second <= 59;
+  }
+
+  private static boolean isOffset(String value, int start) {
+    var sign = value.charAt(start);
+    if ((sign != '+' && sign != '-') || value.charAt(start + 3) != ':') {
+      return false;
+    }
+    var hours = digits(value, start + 1, 2);
+    var minutes = digits(value, start + 4, 2);
+    return hours >= 0 && hours <= 18 && minutes >= 0 && minutes <= 59;
+  }
+
+  private static int daysInMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0 ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  private static int digits(String value, int start, int count) {
+    var result = 0;
+    for (var idx = start; idx < start + count; idx++) {
+      var ch = value.charAt(idx);
+      if (!isDigit(ch)) {
+        return -1;
+      }
+      result = result * 10 + (ch - '0');
+    }
+    return result;
+  }
+
+  private static boolean isDigit(char ch) {
+    return ch >= '0' && ch <= '9';
+  }
+
+  private static boolean isHex(char ch) {
+    return isDigit(ch) || (ch >= 'a' && ch <= 'f') || (ch >= 'A' && ch <= 'F');
+  }
+
+  private static boolean isLetterOrDigit(char ch) {
+    return isDigit(ch) || (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+  }
+}
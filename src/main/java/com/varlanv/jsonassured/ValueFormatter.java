@@ -0,0 +1,170 @@
+package com.varlanv.jsonassured;
+
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.Nullable;
+
+final class ValueFormatter {
+
+  static final int DEFAULT_MAX_VALUE_LENGTH = 1000;
+  static final ValueFormatter DEFAULT = new ValueFormatter(DEFAULT_MAX_VALUE_LENGTH);
+
+  private final int maxValueLength;
+
+  ValueFormatter(int maxValueLength) {
+    this.maxValueLength = maxValueLength;
+  }
+
+  String format(@Nullable Object value) {
+    if (value instanceof CharSequence) {
+      var chars = (CharSequence) value;
+      if (chars.length() <= maxValueLength) {
+        return chars.toString();
+      }
+      return chars.subSequence(0, maxValueLength)
+          + truncated(chars.length() - maxValueLength, "characters");
+    } else if (value instanceof Map<?, ?> || value instanceof List<?>) {
+      if (remainingBudget(value, maxValueLength) >= 0) {
+        return String.valueOf(value);
+      }
+      var sb = new StringBuilder(maxValueLength + 64);
+      writeBounded(value, sb);
+      sb.setLength(Math.min(sb.length(), maxValueLength));
+      return sb.append(truncated(-1, "")).toString();
+    }
+    var rendered = String.valueOf(value);
+    if (rendered.length() <= maxValueLength) {
+      return rendered;
+    }
+    return rendered.substring(0, maxValueLength)
+        + truncated(rendered.length() - maxValueLength, "characters");
+  }
+
+  String formatJson(@Nullable Object node) {
+    if (remainingBudget(node, maxValueLength) >= 0) {
+      return JsonNodes.toJson(node);
+    }
+    var sb = new StringBuilder(maxValueLength + 64);
+    writeBoundedJson(node, sb);
+    sb.setLength(Math.min(sb.length(), maxValueLength));
+    return sb.append(truncated(-1, "")).toString();
+  }
+
+  private static String truncated(int remaining, String unit) {
+    return remaining < 0
+        ? "... [truncated]"
+        : String.format("... [truncated, %d more %s]", remaining, unit);
+  }
+
+  private static int remainingBudget(@Nullable Object value, int budget) {
+    if (budget < 0) {
+      return budget;
+    } else if (value instanceof Map<?, ?>) {
+      var remaining = budget - 2;
+      for (var entry : ((Map<?, ?>) value).entrySet()) {
+        remaining = remainingBudget(entry.getKey(), remaining - 3);
+        remaining = remainingBudget(entry.getValue(), remaining);
+        if (remaining < 0) {
+          return remaining;
+        }
+      }
+      return remaining;
+    } else if (value instanceof List<?>) {
+      var remaining = budget - 2;
+      for (var item : (List<?>) value) {
+        remaining = remainingBudget(item, remaining - 3);
+        if (remaining < 0) {
+          return remaining;
+        }
+      }
+      return remaining;
+    } else if (value instanceof CharSequence) {
+      return budget - ((CharSequence) value).length();
+    }
+    return budget - String.valueOf(value).length();
+  }
+
+  private void writeBounded(@Nullable Object value, StringBuilder sb) {
+    if (sb.length() > maxValueLength) {
+      return;
+    }
+    if (value instanceof Map<?, ?>) {
+      sb.append('{');
+      var first = true;
+      for (var entry : ((Map<?, ?>) value).entrySet()) {
+        if (sb.length() > maxValueLength) {
+          return;
+        }
+        if (!first) {
+          sb.append(", ");
+        }
+        first = false;
+        sb.append(entry.getKey()).append('=');
+        writeBounded(entry.getValue(), sb);
+      }
+      sb.append('}');
+    } else if (value instanceof List<?>) {
+      sb.append('[');
+      var first = true;
+      for (var item : (List<?>) value) {
+        if (sb.length() > maxValueLength) {
+          return;
+        }
+        if (!first) {
+          sb.append(", ");
+        }
+        first = false;
+        writeBounded(item, sb);
+      }
+      sb.append(']');
+    } else if (value instanceof CharSequence) {
+      var chars = (CharSequence) value;
+      sb.append(chars, 0, Math.min(chars.length(), maxValueLength - sb.length() + 1));
+    } else {
+      sb.append(value);
+    }
+  }
+
+  private void writeBoundedJson(@Nullable Object node, StringBuilder sb) {
+    if (sb.length() > maxValueLength) {
+      return;
+    }
+    if (node instanceof Map<?, ?>) {
+      sb.append('{');
+      var first = true;
+      for (var entry : ((Map<?, ?>) node).entrySet()) {
+        if (sb.length() > maxValueLength) {
+          return;
+        }
+        if (!first) {
+          sb.append(',');
+        }
+        first = false;
+        JsonNodes.writeString(String.valueOf(entry.getKey()), sb);
+        sb.append(':');
+        writeBoundedJson(entry.getValue(), sb);
+      }
+      sb.append('}');
+    } else if (node instanceof List<?>) {
+      sb.append('[');
+      var first = true;
+      for (var item : (List<?>) node) {
+        if (sb.length() > maxValueLength) {
+          return;
+        }
+        if (!first) {
+          sb.append(',');
+        }
+        first = false;
+        writeBoundedJson(item, sb);
+      }
+      sb.append(']');
+    } else if (node instanceof CharSequence) {
+      var chars = (CharSequence) node;
+      var end = Math.min(chars.length(), maxValueLength - sb.length() + 1);
+      JsonNodes.writeString(chars.subSequence(0, end).toString(), sb);
+    } else {
+      JsonNodes.writeJson(node, sb);
+    }
+  }
+}
@@ -1,22 +1,226 @@
 package com.varlanv.jsonassured;
 
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.FluxExchangeResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface WebFluxJsonAssured {
 
   static Consumer<EntityExchangeResult<byte[]>> jsonPathSpec(
       JsonAssured.ThrowingConsumer<JsonAssured.JsonPathAssertions> consumer) {
+    return jsonPathSpec(JsonAssuredConfig.defaults(), consumer);
+  }
+
+  static Consumer<EntityExchangeResult<byte[]>> jsonPathSpec(
+      JsonAssuredConfig config,
+      JsonAssured.ThrowingConsumer<JsonAssured.JsonPathAssertions> consumer) {
     return resp -> {
       var responseBody = resp.getResponseBody();
       if (responseBody == null) {
         throw new AssertionError("Response body is null");
       }
       try {
-        consumer.accept(JsonAssured.assertJson(responseBody));
+        consumer.accept(JsonAssured.assertJson(responseBody, config));
       } catch (Throwable e) {
         InternalUtils.rethrow(e);
       }
     };
   }
+
+  static JsonAssured.JsonPathAssertions assertJson(
+      FluxExchangeResult<DataBuffer> result,
+      JsonAssured.ThrowingConsumer<JsonAssured.JsonPathAssertions> consumer) {
+    return assertJson(result, JsonAssuredConfig.defaults(), consumer);
+  }
+
+  static JsonAssured.JsonPathAssertions assertJson(
+      FluxExchangeResult<DataBuffer> result,
+      JsonAssuredConfig config,
+      JsonAssured.ThrowingConsumer<JsonAssured.JsonPathAssertions> consumer) {
+    return assertBuffers(collect(result.getResponseBody()).block(), config, consumer);
+  }
+
+  static Mono<JsonAssured.JsonPathAssertions> assertJson(
+      Flux<DataBuffer> body,
+      JsonAssured.ThrowingConsumer<JsonAssured.JsonPathAssertions> consumer) {
+    return assertJson(body, JsonAssuredConfig.defaults(), consumer);
+  }
+
+  static Mono<JsonAssured.JsonPathAssertions> assertJson(
+      Flux<DataBuffer> body,
+      JsonAssuredConfig config,
+      JsonAssured.ThrowingConsumer<JsonAssured.JsonPathAssertions> consumer) {
+    return collect(body).map(buffers -> assertBuffers(buffers, config, consumer));
+  }
+
+  private static Mono<List<DataBuffer>> collect(Flux<DataBuffer> body) {
+    return body.collectList().doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+  }
+
+  private static JsonAssured.JsonPathAssertions assertBuffers(
+      @Nullable List<DataBuffer> buffers,
+      JsonAssuredConfig config,
+      JsonAssured.ThrowingConsumer<JsonAssured.JsonPathAssertions> consumer) {
+    if (buffers == null || buffers.isEmpty()) {
+      throw new AssertionError("Response body is null");
+    }
+    var listener = JsonListeners.resolve(config);
+    DocumentContext context;
+    var byteCount = 0L;
+    try {
+      var views = new ArrayList<ByteBuffer>(buffers.size());
+      for (var buffer : buffers) {
+        views.add(buffer.asByteBuffer());
+        byteCount += buffer.readableByteCount();
+      }
+      context =
+          JsonListeners.parser(
+                  listener, byteCount, () -> JsonPath.parse(new ByteBufferChainInputStream(views)))
+              .get();
+    } finally {
+      for (var buffer : buffers) {
+        DataBufferUtils.release(buffer);
+      }
+    }
+    var assertions =
+        new JsonAssured.JsonPathAssertions(
+            new MemoizedSupplier<>(() -> context),
+            null,
+            config.valueFormatter(),
+            listener,
+            byteCount);
+    consumer.toUnchecked().accept(assertions);
+    return assertions;
+  }
+
+  static Flux<JsonAssured.JsonPathAssertions> jsonElements(
+      FluxExchangeResult<DataBuffer> result,
+      JsonAssured.ThrowingConsumer<JsonAssured.JsonPathAssertions> elementConsumer) {
+    return jsonElements(
+        result.getResponseBody(),
+        JsonStreamFraming.forContentType(result.getResponseHeaders().getContentType()),
+        elementConsumer);
+  }
+
+  static Flux<JsonAssured.JsonPathAssertions> jsonElements(
+      FluxExchangeResult<DataBuffer> result,
+      JsonStreamFraming framing,
+      JsonAssured.ThrowingConsumer<JsonAssured.JsonPathAssertions> elementConsumer) {
+    return jsonElements(result.getResponseBody(), framing, elementConsumer);
+  }
+
+  static Flux<JsonAssured.JsonPathAssertions> jsonElements(
+      Flux<DataBuffer> body,
+      JsonAssured.ThrowingConsumer<JsonAssured.JsonPathAssertions> elementConsumer) {
+    return jsonElements(body, JsonStreamFraming.AUTO, elementConsumer);
+  }
+
+  static Flux<JsonAssured.JsonPathAssertions> jsonElements(
+      Flux<DataBuffer> body,
+      JsonStreamFraming framing,
+      JsonAssured.ThrowingConsumer<JsonAssured.JsonPathAssertions> elementConsumer) {
+    Objects.requireNonNull(framing);
+    return splitElements(
+        body,
+        () -> new StreamSplitter(framing),
+        "Streamed JSON element",
+        (index, element) -> elementConsumer.accept(element));
+  }
+
+  static Flux<JsonAssured.JsonPathAssertions> sseSpec(
+      FluxExchangeResult<DataBuffer> result,
+      JsonAssured.ThrowingConsumer<JsonAssured.JsonPathAssertions> eventConsumer) {
+    return sseSpec(result.getResponseBody(), eventConsumer);
+  }
+
+  static Flux<JsonAssured.JsonPathAssertions> sseSpec(
+      Flux<DataBuffer> body,
+      JsonAssured.ThrowingConsumer<JsonAssured.JsonPathAssertions> eventConsumer) {
+    return sseSpec(body, (index, event) -> eventConsumer.accept(event));
+  }
+
+  static Flux<JsonAssured.JsonPathAssertions> sseSpec(
+      FluxExchangeResult<DataBuffer> result,
+      JsonAssured.ThrowingIndexedConsumer<JsonAssured.JsonPathAssertions> eventConsumer) {
+    return sseSpec(result.getResponseBody(), eventConsumer);
+  }
+
+  static Flux<JsonAssured.JsonPathAssertions> sseSpec(
+      Flux<DataBuffer> body,
+      JsonAssured.ThrowingIndexedConsumer<JsonAssured.JsonPathAssertions> eventConsumer) {
+    return splitElements(body, SseSplitter::new, "Server-sent event", eventConsumer);
+  }
+
+  private static Flux<JsonAssured.JsonPathAssertions> splitElements(
+      Flux<DataBuffer> body,
+      Supplier<ChunkSplitter> splitterFactory,
+      String description,
+      JsonAssured.ThrowingIndexedConsumer<JsonAssured.JsonPathAssertions> elementConsumer) {
+    return Flux.defer(
+        () -> {
+          var splitter = splitterFactory.get();
+          var index = new AtomicInteger();
+          return body.flatMapIterable(
+                  buffer -> {
+                    try {
+                      return splitter.feed(buffer.asByteBuffer());
+                    } finally {
+                      DataBufferUtils.release(buffer);
+                    }
+                  })
+              .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+              .concatWith(Flux.defer(() -> Flux.fromIterable(splitter.finish())))
+              .map(
+                  element -> {
+                    var elementIndex = index.getAndIncrement();
+                    var assertions = JsonAssured.assertJson(element);
+                    try {
+                      elementConsumer.accept(elementIndex, assertions);
+                    } catch (AssertionError e) {
+                      throw new JsonAssertionError(
+                          String.format(
+                              "%s [%d] did not satisfy provided condition",
+                              description, elementIndex),
+                          e);
+                    } catch (Throwable e) {
+                      InternalUtils.rethrow(e);
+                    }
+                    return assertions;
+                  });
+        });
+  }
+
+  enum JsonStreamFraming {
+    AUTO,
+    ARRAY,
+    NDJSON;
+
+    private static final MediaType STREAM_JSON = new MediaType("application", "stream+json");
+
+    static JsonStreamFraming forContentType(@Nullable MediaType contentType) {
+      if (contentType == null) {
+        return AUTO;
+      } else if (contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)
+          || contentType.isCompatibleWith(STREAM_JSON)) {
+        return NDJSON;
+      } else if (contentType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+        return ARRAY;
+      }
+      return AUTO;
+    }
+  }
 }
@@ -1,19 +1,52 @@
 package com.varlanv.jsonassured;
 
+import com.jayway.jsonpath.InvalidJsonException;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
 import java.io.ByteArrayInputStream;
 import java.io.StringReader;
+import java.lang.reflect.Proxy;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.intellij.lang.annotations.Language;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.*;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.PooledDataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 
 class JsonAssuredTest {
 
@@ -1866,6 +1899,2724 @@ class JsonAssuredTest {
     }
   }
 
+  @Nested
+  class hasNoDuplicates {
+
+    @Language("json")
+    private static final String json =
+        """
+        {
+          "emptyArray": [],
+          "uniqueInts": [1, 2, 3, 0, -1],
+          "duplicateInts": [1, 2, 3, 2],
+          "uniqueLongs": [1234567890123456, 1234567890123457],
+          "duplicateLongs": [1234567890123456, 1, 1234567890123456],
+          "uniqueStrings": ["a", "b", "c"],
+          "duplicateStrings": ["a", "b", "c", "B"],
+          "duplicateNulls": ["a", null, null],
+          "uniqueObjects": [{"id": 1, "name": "a"}, {"id": 2, "name": "a"}],
+          "duplicateObjects": [{"id": 1}, {"id": 2}, {"id": 1}],
+          "objectsWithoutKey": [{"id": 1}, {"name": "a"}]
+        }""";
+
+    private final JsonAssured.JsonPathAssertions subject = JsonAssured.assertJson(json);
+
+    @Test
+    void when_unique__then_ok() {
+      Assertions.assertDoesNotThrow(
+          () ->
+              subject
+                  .intArrayPath(
+                      "$.uniqueInts", JsonAssured.JsonNumberArrayAssertions::hasNoDuplicates)
+                  .longArrayPath(
+                      "$.uniqueLongs", JsonAssured.JsonNumberArrayAssertions::hasNoDuplicates)
+                  .stringArrayPath(
+                      "$.uniqueStrings", JsonAssured.JsonStringArrayAssertions::hasNoDuplicates)
+                  .objectArrayPath(
+                      "$.uniqueObjects", JsonAssured.JsonObjectArrayAssertions::hasNoDuplicates)
+                  .objectArrayPath("$.uniqueObjects", objects -> objects.hasNoDuplicatesBy("@.id"))
+                  .intArrayPath("$.uniqueInts", ints -> ints.hasNoDuplicatesBy(val -> val * 10))
+                  .stringArrayPath(
+                      "$.emptyArray", JsonAssured.JsonStringArrayAssertions::hasNoDuplicates));
+    }
+
+    @Test
+    void when_duplicate_ints__then_fail() {
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.intArrayPath(
+                      "$.duplicateInts", JsonAssured.JsonNumberArrayAssertions::hasNoDuplicates));
+
+      Assertions.assertEquals(
+          "Int array at path \"$.duplicateInts\" expected to not contain duplicates, but value <2> at index [3] is a duplicate of value at index [1]",
+          assertionError.getMessage());
+    }
+
+    @Test
+    void when_duplicate_longs__then_fail() {
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.longArrayPath(
+                      "$.duplicateLongs", JsonAssured.JsonNumberArrayAssertions::hasNoDuplicates));
+
+      Assertions.assertEquals(
+          "Long array at path \"$.duplicateLongs\" expected to not contain duplicates, but value <1234567890123456> at index [2] is a duplicate of value at index [0]",
+          assertionError.getMessage());
+    }
+
+    @Test
+    void when_duplicate_nulls__then_fail() {
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.stringArrayPath(
+                      "$.duplicateNulls", JsonAssured.JsonStringArrayAssertions::hasNoDuplicates));
+
+      Assertions.assertEquals(
+          "String array at path \"$.duplicateNulls\" expected to not contain duplicates, but value <null> at index [2] is a duplicate of value at index [1]",
+          assertionError.getMessage());
+    }
+
+    @Test
+    void when_duplicate_strings_by_key__then_fail() {
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.stringArrayPath(
+                      "$.duplicateStrings",
+                      strings -> strings.hasNoDuplicates().hasNoDuplicatesBy(String::toLowerCase)));
+
+      Assertions.assertEquals(
+          "String array at path \"$.duplicateStrings\" expected to not contain duplicates by key, but element at index [3] has the same key <b> as element at index [1]",
+          assertionError.getMessage());
+    }
+
+    @Test
+    void when_duplicate_objects__then_fail() {
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.objectArrayPath(
+                      "$.duplicateObjects",
+                      JsonAssured.JsonObjectArrayAssertions::hasNoDuplicates));
+
+      Assertions.assertEquals(
+          "Object array at path \"$.duplicateObjects\" expected to not contain duplicates, but value <{id=1}> at index [2] is a duplicate of value at index [0]",
+          assertionError.getMessage());
+    }
+
+    @Test
+    void when_duplicate_objects_by_key__then_fail() {
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.objectArrayPath(
+                      "$.uniqueObjects", objects -> objects.hasNoDuplicatesBy("$.name")));
+
+      Assertions.assertEquals(
+          "Object array at path \"$.uniqueObjects\" expected to not contain duplicates by key, but element at index [1] has the same key <a> as element at index [0]",
+          assertionError.getMessage());
+    }
+
+    @Test
+    void when_key_is_missing__then_fail() {
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.objectArrayPath(
+                      "$.objectsWithoutKey", objects -> objects.hasNoDuplicatesBy("id")));
+
+      Assertions.assertEquals(
+          "Expected every element of object array at path \"$.objectsWithoutKey\" to have value at key path \"id\", but it was missing in element <{name=a}>",
+          assertionError.getMessage());
+    }
+
+    @Test
+    void when_not_object_array__then_fail() {
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.objectArrayPath(
+                      "$.uniqueInts", JsonAssured.JsonObjectArrayAssertions::hasNoDuplicates));
+
+      Assertions.assertEquals(
+          "Expected object array type at path \"$.uniqueInts\", but actual type of value in array was \"integer\"",
+          assertionError.getMessage());
+    }
+
+    @Test
+    void int_hash_set__when_many_values__then_detects_only_real_duplicates() {
+      var set = new IntHashSet(0);
+      for (var i = -50_000; i < 50_000; i++) {
+        Assertions.assertTrue(set.add(i * 31));
+      }
+      for (var i = -50_000; i < 50_000; i++) {
+        Assertions.assertFalse(set.add(i * 31));
+      }
+    }
+
+    @Test
+    void long_hash_set__when_many_values__then_detects_only_real_duplicates() {
+      var set = new LongHashSet(4);
+      for (var i = -50_000L; i < 50_000L; i++) {
+        Assertions.assertTrue(set.add(i << 32));
+      }
+      for (var i = -50_000L; i < 50_000L; i++) {
+        Assertions.assertFalse(set.add(i << 32));
+      }
+    }
+  }
+
+  @Nested
+  class isEqualToJson {
+
+    @Language("json")
+    private static final String json =
+        """
+        {
+          "id": 1,
+          "price": 10.50,
+          "tags": ["a", "b", "c"],
+          "owner": {"name": "John", "age": 42},
+          "items": [{"sku": "x", "qty": 1}, {"sku": "y", "qty": 2}]
+        }""";
+
+    private final JsonAssured.JsonPathAssertions subject = JsonAssured.assertJson(json);
+
+    @Test
+    void when_equal_with_different_field_order_and_number_format__then_ok() {
+      Assertions.assertDoesNotThrow(
+          () ->
+              subject
+                  .isEqualToJson(
+                      "$",
+                      """
+                      {
+                        "items": [{"qty": 1, "sku": "x"}, {"sku": "y", "qty": 2.0}],
+                        "owner": {"age": 42, "name": "John"},
+                        "tags": ["a", "b", "c"],
+                        "price": 10.5,
+                        "id": 1
+                      }""")
+                  .isEqualToJson("$.owner", "{\"name\": \"John\", \"age\": 42}")
+                  .isEqualToJson("$.tags[1]", "\"b\""));
+    }
+
+    @Test
+    void when_not_equal__then_fail_with_differences_only() {
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.isEqualToJson(
+                      "$",
+                      """
+                      {
+                        "id": 2,
+                        "price": 10.5,
+                        "tags": ["a", "b"],
+                        "owner": {"name": "John", "age": 42, "email": "john@example.com"},
+                        "items": [{"sku": "x", "qty": 1}, {"sku": "y", "qty": 2}],
+                        "extra": null
+                      }"""));
+
+      Assertions.assertEquals(
+          String.join(
+              System.lineSeparator(),
+              "JSON at path \"$\" is not equal to expected JSON, found 4 difference(s):",
+              "  - $.id: expected <2> but was <1>",
+              "  - $.tags[2]: unexpected element <\"c\">",
+              "  - $.owner.email: expected field with value <\"john@example.com\"> but field was missing",
+              "  - $.extra: expected field with value <null> but field was missing"),
+          assertionError.getMessage());
+    }
+
+    @Test
+    void when_array_order_differs__then_fail_unless_ignored() {
+      var expected = "[\"c\", \"a\", \"b\"]";
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class, () -> subject.isEqualToJson("$.tags", expected));
+
+      Assertions.assertEquals(
+          String.join(
+              System.lineSeparator(),
+              "JSON at path \"$.tags\" is not equal to expected JSON, found 3 difference(s):",
+              "  - $.tags[0]: expected <\"c\"> but was <\"a\">",
+              "  - $.tags[1]: expected <\"a\"> but was <\"b\">",
+              "  - $.tags[2]: expected <\"b\"> but was <\"c\">"),
+          assertionError.getMessage());
+      Assertions.assertDoesNotThrow(
+          () ->
+              subject.isEqualToJson(
+                  "$.tags", expected, JsonAssured.JsonCompareOption.IGNORING_ARRAY_ORDER));
+    }
+
+    @Test
+    void when_extra_fields__then_fail_unless_ignored() {
+      var expected =
+          "{\"items\": [{\"sku\": \"y\"}, {\"sku\": \"x\"}], \"owner\": {\"name\": \"John\"}}";
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.isEqualToJson(
+                      "$", expected, JsonAssured.JsonCompareOption.IGNORING_EXTRA_FIELDS));
+
+      Assertions.assertEquals(
+          String.join(
+              System.lineSeparator(),
+              "JSON at path \"$\" is not equal to expected JSON, found 2 difference(s):",
+              "  - $.items[0].sku: expected <\"y\"> but was <\"x\">",
+              "  - $.items[1].sku: expected <\"x\"> but was <\"y\">"),
+          assertionError.getMessage());
+      Assertions.assertDoesNotThrow(
+          () ->
+              subject.isEqualToJson(
+                  "$",
+                  expected,
+                  JsonAssured.JsonCompareOption.IGNORING_EXTRA_FIELDS,
+                  JsonAssured.JsonCompareOption.IGNORING_ARRAY_ORDER));
+    }
+
+    @Test
+    void when_unordered_array_has_single_mismatch__then_report_nested_difference() {
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.isEqualToJson(
+                      "$.items",
+                      "[{\"sku\": \"y\", \"qty\": 2}, {\"sku\": \"x\", \"qty\": 3}]",
+                      JsonAssured.JsonCompareOption.IGNORING_ARRAY_ORDER));
+
+      Assertions.assertEquals(
+          String.join(
+              System.lineSeparator(),
+              "JSON at path \"$.items\" is not equal to expected JSON, found 1 difference(s):",
+              "  - $.items[0].qty: expected <3> but was <1>"),
+          assertionError.getMessage());
+    }
+
+    @Test
+    void when_decimals_share_unscaled_hash_code__then_fail() {
+      var decimals = JsonAssured.assertJson("{\"a\": 858993456.2, \"b\": [858993456.2, 0.1]}");
+
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () -> decimals.isEqualToJson("$", "{\"a\": 0.1, \"b\": [0.1, 0.1]}"));
+
+      Assertions.assertEquals(
+          String.join(
+              System.lineSeparator(),
+              "JSON at path \"$\" is not equal to expected JSON, found 2 difference(s):",
+              "  - $.a: expected <0.1> but was <8.589934562E8>",
+              "  - $.b[0]: expected <0.1> but was <8.589934562E8>"),
+          assertionError.getMessage());
+      Assertions.assertThrows(
+          AssertionError.class,
+          () ->
+              decimals.isEqualToJson(
+                  "$.b", "[0.1, 0.1]", JsonAssured.JsonCompareOption.IGNORING_ARRAY_ORDER));
+    }
+
+    @Test
+    void when_types_differ__then_fail() {
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class, () -> subject.isEqualToJson("$.id", "\"1\""));
+
+      Assertions.assertEquals(
+          String.join(
+              System.lineSeparator(),
+              "JSON at path \"$.id\" is not equal to expected JSON, found 1 difference(s):",
+              "  - $.id: expected <\"1\"> but was <1>"),
+          assertionError.getMessage());
+    }
+  }
+
+  @Nested
+  class matchesSchema {
+
+    @Language("json")
+    private static final String schema =
+        """
+        {
+          "type": "object",
+          "required": ["id", "name", "items"],
+          "additionalProperties": false,
+          "properties": {
+            "id": {"type": "integer", "minimum": 1},
+            "name": {"type": "string", "minLength": 2, "pattern": "^[A-Z]"},
+            "status": {"enum": ["NEW", "DONE"]},
+            "items": {"type": "array", "uniqueItems": true, "items": {"$ref": "#/definitions/item"}}
+          },
+          "definitions": {
+            "item": {
+              "type": "object",
+              "required": ["sku"],
+              "properties": {
+                "sku": {"type": "string"},
+                "price": {"type": "number", "exclusiveMinimum": 0},
+                "children": {"type": "array", "items": {"$ref": "#/definitions/item"}}
+              }
+            }
+          }
+        }""";
+
+    @Test
+    void when_document_matches__then_ok() {
+      Assertions.assertDoesNotThrow(
+          () ->
+              JsonAssured.assertJson(
+                      """
+                      {
+                        "id": 1,
+                        "name": "Order",
+                        "status": "NEW",
+                        "items": [{"sku": "a", "price": 1.5, "children": [{"sku": "b"}]}]
+                      }""")
+                  .matchesSchema(schema)
+                  .matchesSchemaAt(
+                      "$.items[0]", "{\"type\": \"object\", \"required\": [\"sku\"]}"));
+    }
+
+    @Test
+    void when_document_does_not_match__then_fail_with_all_violations() {
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  JsonAssured.assertJson(
+                          """
+                          {
+                            "id": 0,
+                            "name": "o",
+                            "status": "UNKNOWN",
+                            "items": [{"sku": 1, "children": [{"price": 0}]}],
+                            "extra": true
+                          }""")
+                      .matchesSchema(schema));
+
+      Assertions.assertEquals(
+          String.join(
+              System.lineSeparator(),
+              "JSON at path \"$\" does not match schema, found 8 violation(s):",
+              "  - $.id: expected number >= 1 but was 0",
+              "  - $.name: expected string length >= 2 but was 1",
+              "  - $.name: string <o> does not match pattern <^[A-Z]>",
+              "  - $.status: value <\"UNKNOWN\"> is not one of [\"NEW\",\"DONE\"]",
+              "  - $.items[0].sku: expected type \"string\" but was \"integer\"",
+              "  - $.items[0].children[0].sku: required property is missing",
+              "  - $.items[0].children[0].price: expected number > 0 but was 0",
+              "  - $.extra: additional property is not allowed"),
+          assertionError.getMessage());
+    }
+
+    @Test
+    void when_values_share_hash_bucket__then_compare_structurally() {
+      var subject = JsonAssured.assertJson("{\"a\": 858993456.2, \"b\": [0.1, 858993456.2, 0.1]}");
+
+      Assertions.assertDoesNotThrow(
+          () ->
+              subject
+                  .matchesSchemaAt("$.a", "{\"not\": {\"const\": 0.1}}")
+                  .matchesSchemaAt("$.a", "{\"not\": {\"enum\": [0.1, \"x\"]}}")
+                  .matchesSchemaAt("$.b[0]", "{\"enum\": [0.10, [0.1]]}"));
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () -> subject.matchesSchemaAt("$.b", "{\"uniqueItems\": true}"));
+      Assertions.assertEquals(
+          String.join(
+              System.lineSeparator(),
+              "JSON at path \"$.b\" does not match schema, found 1 violation(s):",
+              "  - $.b[2]: expected unique array items, but item <0.1> is duplicated"),
+          assertionError.getMessage());
+    }
+
+    @Test
+    void when_combinators__then_validate() {
+      var oneOfSchema =
+          """
+          {"oneOf": [{"type": "integer"}, {"type": "number", "multipleOf": 0.5}]}""";
+      var subject = JsonAssured.assertJson("{\"a\": 1.5, \"b\": 2, \"c\": \"x\"}");
+
+      Assertions.assertDoesNotThrow(() -> subject.matchesSchemaAt("$.a", oneOfSchema));
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class, () -> subject.matchesSchemaAt("$.b", oneOfSchema));
+      Assertions.assertEquals(
+          String.join(
+              System.lineSeparator(),
+              "JSON at path \"$.b\" does not match schema, found 1 violation(s):",
+              "  - $.b: expected value to match exactly one of \"oneOf\" schemas, but matched 2"),
+          assertionError.getMessage());
+      Assertions.assertDoesNotThrow(
+          () ->
+              subject.matchesSchemaAt(
+                  "$.c",
+                  "{\"anyOf\": [{\"type\": \"integer\"}, {\"not\": {\"type\": \"number\"}}]}"));
+    }
+
+    @Test
+    void when_long_string_does_not_match_pattern__then_bound_value_in_message() {
+      var longValue = "x".repeat(100_000);
+
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  JsonAssured.assertJson("{\"a\": \"" + longValue + "\"}")
+                      .matchesSchemaAt("$.a", "{\"pattern\": \"^y\"}"));
+
+      Assertions.assertTrue(assertionError.getMessage().length() < 2_000);
+      Assertions.assertFalse(assertionError.getMessage().contains(longValue));
+    }
+
+    @Test
+    void when_same_schema__then_compiled_once() {
+      Assertions.assertSame(
+          JsonSchemaValidator.compile(schema), JsonSchemaValidator.compile(schema));
+    }
+
+    @Test
+    void when_remote_reference__then_fail() {
+      var exception =
+          Assertions.assertThrows(
+              IllegalArgumentException.class,
+              () ->
+                  JsonAssured.assertJson("{}")
+                      .matchesSchema("{\"$ref\": \"http://example.com/schema.json\"}"));
+
+      Assertions.assertEquals(
+          "Only local schema references are supported, but found \"http://example.com/schema.json\"",
+          exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+          "prefixItems",
+          "minContains",
+          "maxContains",
+          "unevaluatedItems",
+          "unevaluatedProperties",
+          "$dynamicRef",
+          "$recursiveRef"
+        })
+    void when_unsupported_keyword__then_fail_at_compile_time(String keyword) {
+      var exception =
+          Assertions.assertThrows(
+              IllegalArgumentException.class,
+              () ->
+                  JsonAssured.assertJson("{}")
+                      .matchesSchema("{\"properties\": {\"a\": {\"" + keyword + "\": true}}}"));
+
+      Assertions.assertEquals(
+          String.format("Schema keyword \"%s\" at \"#/properties/a\" is not supported", keyword),
+          exception.getMessage());
+    }
+
+    @Test
+    void when_unsupported_format__then_fail_at_compile_time() {
+      var exception =
+          Assertions.assertThrows(
+              IllegalArgumentException.class,
+              () -> JsonAssured.assertJson("{}").matchesSchema("{\"format\": \"hostname\"}"));
+
+      Assertions.assertEquals(
+          "Schema format \"hostname\" at \"#\" is not supported", exception.getMessage());
+    }
+
+    @Test
+    void when_conditional_pattern_and_dependency_keywords__then_validate() {
+      var keywordSchema =
+          """
+          {
+            "$defs": {"positive": {"type": "integer", "minimum": 1}},
+            "properties": {
+              "kind": {"enum": ["card", "cash"]},
+              "amount": {"$ref": "#/$defs/positive", "maximum": 100},
+              "legacy": {"type": "number", "minimum": 0, "exclusiveMinimum": true},
+              "created": {"format": "date-time"},
+              "tags": {"contains": {"const": "vip"}}
+            },
+            "patternProperties": {"^x-": {"type": "string"}},
+            "additionalProperties": false,
+            "propertyNames": {"maxLength": 8},
+            "dependentRequired": {"kind": ["amount"]},
+            "dependencies": {"legacy": {"required": ["created"]}},
+            "if": {"properties": {"kind": {"const": "card"}}},
+            "then": {"required": ["tags"]},
+            "else": {"required": ["legacy"]}
+          }""";
+
+      Assertions.assertDoesNotThrow(
+          () ->
+              JsonAssured.assertJson(
+                      """
+                      {
+                        "kind": "card",
+                        "amount": 5,
+                        "legacy": 0.5,
+                        "created": "2024-01-02T03:04:05+01:00",
+                        "tags": ["a", "vip"],
+                        "x-note": "ok"
+                      }""")
+                  .matchesSchema(keywordSchema));
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  JsonAssured.assertJson(
+                          """
+                          {
+                            "kind": "card",
+                            "amount": 500,
+                            "legacy": 0,
+                            "created": "yesterday",
+                            "tags": ["a"],
+                            "x-note": 1,
+                            "other": true,
+                            "verylongname": 1
+                          }""")
+                      .matchesSchema(keywordSchema));
+
+      Assertions.assertEquals(
+          String.join(
+              System.lineSeparator(),
+              "JSON at path \"$\" does not match schema, found 8 violation(s):",
+              "  - $.amount: expected number <= 100 but was 500",
+              "  - $.legacy: expected number > 0 but was 0",
+              "  - $.created: string <yesterday> is not a valid \"date-time\"",
+              "  - $.tags: expected array to contain an item matching \"contains\" schema",
+              "  - $['x-note']: expected type \"string\" but was \"integer\"",
+              "  - $.other: additional property is not allowed",
+              "  - $.verylongname: expected string length <= 8 but was 12",
+              "  - $.verylongname: additional property is not allowed"),
+          assertionError.getMessage());
+      Assertions.assertThrows(
+          AssertionError.class,
+          () -> JsonAssured.assertJson("{\"kind\": \"cash\"}").matchesSchema(keywordSchema));
+      Assertions.assertThrows(
+          AssertionError.class,
+          () ->
+              JsonAssured.assertJson("{\"kind\": \"cash\", \"amount\": 1, \"legacy\": 1}")
+                  .matchesSchema(keywordSchema));
+    }
+  }
+
+  @Nested
+  class matchesSnapshot {
+
+    @TempDir Path tempDir;
+
+    @Test
+    void when_snapshot_missing__then_fail() {
+      var snapshotFile = tempDir.resolve("order.json");
+
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () -> JsonAssured.assertJson("{\"id\": 1}").matchesSnapshot(snapshotFile));
+
+      Assertions.assertEquals(
+          String.join(
+              System.lineSeparator(),
+              String.format("Snapshot file \"%s\" does not exist", snapshotFile),
+              "Run with -Djsonassured.snapshot.update=true to create it"),
+          assertionError.getMessage());
+      Assertions.assertFalse(Files.exists(snapshotFile));
+    }
+
+    @Test
+    void when_snapshot_missing_in_update_mode__then_write_canonical_snapshot() throws Exception {
+      var snapshotFile = tempDir.resolve("snapshots").resolve("order.json");
+
+      System.setProperty(JsonSnapshots.UPDATE_PROPERTY, "true");
+      try {
+        JsonAssured.assertJson(
+                "{\"b\": 1.50, \"a\": [true, null, {\"d\": 1, \"c\": \"x\"}], \"e\": {}}")
+            .matchesSnapshot(snapshotFile);
+      } finally {
+        System.clearProperty(JsonSnapshots.UPDATE_PROPERTY);
+      }
+
+      Assertions.assertEquals(
+          """
+          {
+            "a": [
+              true,
+              null,
+              {
+                "c": "x",
+                "d": 1
+              }
+            ],
+            "b": 1.5,
+            "e": {}
+          }
+          """,
+          Files.readString(snapshotFile));
+    }
+
+    @Test
+    void when_snapshot_equal_after_canonicalization__then_ok() throws Exception {
+      var snapshotFile = tempDir.resolve("order.json");
+      Files.writeString(snapshotFile, "{\n  \"id\": 1,\n  \"total\": 10\n}\n");
+
+      Assertions.assertDoesNotThrow(
+          () -> JsonAssured.assertJson("{\"total\": 10, \"id\": 1}").matchesSnapshot(snapshotFile));
+    }
+
+    @Test
+    void when_snapshot_differs__then_fail_with_differences() throws Exception {
+      var snapshotFile = tempDir.resolve("order.json");
+      Files.writeString(snapshotFile, "{\"id\": 1, \"status\": \"NEW\"}");
+
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  JsonAssured.assertJson("{\"id\": 1, \"status\": \"DONE\"}")
+                      .matchesSnapshot(snapshotFile));
+
+      Assertions.assertEquals(
+          String.join(
+              System.lineSeparator(),
+              String.format(
+                  "JSON does not match snapshot \"%s\", found 1 difference(s):", snapshotFile),
+              "  - $.status: expected <\"NEW\"> but was <\"DONE\">",
+              "Run with -Djsonassured.snapshot.update=true to update snapshots"),
+          assertionError.getMessage());
+    }
+
+    @Test
+    void when_snapshot_fails_inside_stackless_scope__then_failure_is_stackless() throws Exception {
+      var snapshotFile = tempDir.resolve("order.json");
+      Files.writeString(snapshotFile, "{\"id\": 1}");
+      var subject = JsonAssured.assertJson("{\"id\": 2}");
+
+      AssertionError differs;
+      AssertionError missing;
+      JsonAssertionError.enterStackless();
+      try {
+        differs =
+            Assertions.assertThrows(
+                AssertionError.class, () -> subject.matchesSnapshot(snapshotFile));
+        missing =
+            Assertions.assertThrows(
+                AssertionError.class,
+                () -> subject.matchesSnapshot(tempDir.resolve("missing.json")));
+      } finally {
+        JsonAssertionError.exitStackless();
+      }
+
+      Assertions.assertInstanceOf(JsonAssertionError.class, differs);
+      Assertions.assertEquals(0, differs.getStackTrace().length);
+      Assertions.assertInstanceOf(JsonAssertionError.class, missing);
+      Assertions.assertEquals(0, missing.getStackTrace().length);
+    }
+
+    @Test
+    void when_update_mode__then_rewrite_snapshot() throws Exception {
+      var snapshotFile = tempDir.resolve("order.json");
+      Files.writeString(snapshotFile, "{\"id\": 1}");
+
+      System.setProperty(JsonSnapshots.UPDATE_PROPERTY, "true");
+      try {
+        JsonAssured.assertJson("{\"id\": 2}").matchesSnapshot(snapshotFile);
+      } finally {
+        System.clearProperty(JsonSnapshots.UPDATE_PROPERTY);
+      }
+
+      Assertions.assertEquals("{\n  \"id\": 2\n}\n", Files.readString(snapshotFile));
+    }
+  }
+
+  @Nested
+  class objectArrayPath {
+
+    @Language("json")
+    private static final String json =
+        """
+        {
+          "items": [
+            {"id": "a", "qty": 1, "tags": ["x"]},
+            {"id": "b", "qty": 2, "tags": []},
+            {"id": "c", "qty": 3, "tags": ["y", "z"]}
+          ],
+          "withNull": [{"id": "a"}, null]
+        }""";
+
+    private final JsonAssured.JsonPathAssertions subject = JsonAssured.assertJson(json);
+
+    @Test
+    void when_elements_match__then_ok() {
+      var visited = new ArrayList<Integer>();
+
+      subject.objectArrayPath(
+          "$.items",
+          (index, element) -> {
+            visited.add(index);
+            element
+                .stringPath("@.id", id -> id.hasLength(1))
+                .intPath("$.qty", qty -> qty.isEqualTo(index + 1))
+                .stringArrayPath("$.tags", JsonAssured.JsonStringArrayAssertions::hasNoDuplicates);
+          });
+
+      Assertions.assertEquals(List.of(0, 1, 2), visited);
+    }
+
+    @Test
+    void when_combined_with_array_assertions__then_ok() {
+      Assertions.assertDoesNotThrow(
+          () ->
+              subject.objectArrayPath(
+                  "$.items[*]",
+                  items ->
+                      items
+                          .hasSize(3)
+                          .hasNoDuplicatesBy("id")
+                          .elementsSatisfy((index, element) -> element.isNotNull("@.qty"))));
+    }
+
+    @Test
+    void when_element_does_not_match__then_fail_with_element_path() {
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.objectArrayPath(
+                      "$.items",
+                      (index, element) -> element.intPath("@.qty", qty -> qty.isLte(2))));
+
+      Assertions.assertEquals(
+          "Object value at path \"$.items[2]\" did not satisfy provided condition",
+          assertionError.getMessage());
+      Assertions.assertEquals(
+          "Expected Int number at path \"@.qty\" to be less than or equal to <2>, but was <3>",
+          assertionError.getCause().getMessage());
+    }
+
+    @Test
+    void when_null_element__then_fail() {
+      var assertionError =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () -> subject.objectArrayPath("$.withNull", (index, element) -> {}));
+
+      Assertions.assertEquals(
+          "Expected object at path \"$.withNull[1]\", but actual type was \"null\"",
+          assertionError.getMessage());
+    }
+  }
+
+  @Nested
+  class streamingPaths {
+
+    @Language("json")
+    private static final String json =
+        """
+        {
+          "id": "root",
+          "orders": [
+            {
+              "id": "o1",
+              "lines": [{"sku": "A-1", "qty": 1}, {"sku": "A-2", "qty": 2}]
+            },
+            {
+              "id": "o2",
+              "lines": [{"sku": "B-1", "qty": 3}],
+              "meta": {"id": {"id": "nested"}}
+            }
+          ],
+          "numbers": [[1, 2], [3]]
+        }""";
+
+    private final JsonAssured.JsonPathAssertions subject = JsonAssured.assertJson(json);
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+          "$..id",
+          "$..sku",
+          "$.orders[*].lines[*].sku",
+          "$.orders.*.id",
+          "$['orders'][*]['lines'][0].sku",
+          "$.orders[*].missing",
+          "$..lines[*].qty"
+        })
+    void stream_results_should_be_the_same_as_json_path_results(String path) {
+      var stream = JsonPathStream.compile(path);
+      Assertions.assertNotNull(stream);
+      var actual = new ArrayList<Object>();
+      stream
+          .iterator(com.jayway.jsonpath.JsonPath.parse(json).json())
+          .forEachRemaining(actual::add);
+
+      Assertions.assertEquals(
+          com.jayway.jsonpath.JsonPath.parse(json).read(path, List.class), actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"$", "$.orders", "$.orders[0].id", "$.orders[?(@.id == 'o1')]", "id"})
+    void definite_or_unsupported_paths_should_not_be_streamed(String path) {
+      Assertions.assertNull(JsonPathStream.compile(path));
+    }
+
+    @Test
+    void deep_scan_should_match_all_values() {
+      subject.stringArrayPath(
+          "$..sku",
+          skus -> skus.hasSize(3).allSatisfy(sku -> Assertions.assertTrue(sku.contains("-"))));
+    }
+
+    @Test
+    void anySatisfy_should_stop_on_first_match() {
+      var visited = new ArrayList<String>();
+
+      subject.stringArrayPath(
+          "$.orders[*].lines[*].sku",
+          skus ->
+              skus.anySatisfy(
+                  sku -> {
+                    visited.add(sku);
+                    Assertions.assertEquals("A-1", sku);
+                  }));
+
+      Assertions.assertEquals(List.of("A-1"), visited);
+    }
+
+    @Test
+    void containsAny_should_stop_on_first_match() {
+      subject.intArrayPath("$..qty", qty -> qty.containsAny(List.of(2, 100)));
+    }
+
+    @Test
+    void containsAny_when_no_match__should_fail() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () -> subject.intArrayPath("$..qty", qty -> qty.containsAny(List.of(100))));
+
+      Assertions.assertEquals(
+          "Number array at path \"$..qty\" does not contain any of expected values",
+          error.getMessage());
+    }
+
+    @Test
+    void filter_paths_should_fall_back_to_json_path() {
+      subject.stringArrayPath(
+          "$.orders[?(@.id == 'o2')].lines[*].sku",
+          skus -> skus.allSatisfy(sku -> Assertions.assertEquals("B-1", sku)));
+    }
+
+    @Test
+    void type_mismatch_should_fail_when_element_is_reached() {
+      var visited = new ArrayList<Integer>();
+
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject
+                      .intArrayPath("$.numbers[*][*]", numbers -> numbers.allSatisfy(visited::add))
+                      .intArrayPath("$..sku", skus -> skus.allSatisfy(visited::add)));
+
+      Assertions.assertEquals(List.of(1, 2, 3), visited);
+      Assertions.assertEquals(
+          "Expected int array type at path \"$..sku\", but actual type of value in array was \"string\"",
+          error.getMessage());
+    }
+  }
+
+  @Nested
+  class relation {
+
+    @Language("json")
+    private static final String json =
+        """
+        {
+          "total": 60.5,
+          "count": 3,
+          "name": "order",
+          "alias": "order",
+          "lines": [{"amount": 10}, {"amount": 20}, {"amount": 30.5}],
+          "items": ["a", "b", "c"],
+          "big": [9223372036854775807, 1],
+          "empty": [],
+          "mixed": [1, "two"]
+        }""";
+
+    private final JsonAssured.JsonPathAssertions subject = JsonAssured.assertJson(json);
+
+    @Test
+    void when_aggregates_match__then_ok() {
+      subject
+          .relation(
+              JsonAssured.JsonOperand.value("$.total"),
+              JsonAssured.JsonOperand.sum("$.lines[*].amount"),
+              JsonAssured.JsonRelation.EQUAL)
+          .relation(
+              JsonAssured.JsonOperand.value("$.count"),
+              JsonAssured.JsonOperand.count("$.items"),
+              JsonAssured.JsonRelation.EQUAL)
+          .relation(
+              JsonAssured.JsonOperand.min("$..amount"),
+              JsonAssured.JsonOperand.max("$..amount"),
+              JsonAssured.JsonRelation.LESS_THAN)
+          .relation(
+              JsonAssured.JsonOperand.max("$.lines[*].amount"),
+              JsonAssured.JsonOperand.value("$.total"),
+              JsonAssured.JsonRelation.LESS_THAN_OR_EQUAL)
+          .relation(
+              JsonAssured.JsonOperand.count("$.empty"),
+              JsonAssured.JsonOperand.count("$.items"),
+              JsonAssured.JsonRelation.NOT_EQUAL);
+    }
+
+    @Test
+    void when_paths_are_equal__then_ok() {
+      subject
+          .relation("$.name", "$.alias", JsonAssured.JsonRelation.EQUAL)
+          .relation("$.total", "$.count", JsonAssured.JsonRelation.GREATER_THAN)
+          .relation("$.count", "$.count", JsonAssured.JsonRelation.GREATER_THAN_OR_EQUAL)
+          .relation("$.name", "$.items", JsonAssured.JsonRelation.NOT_EQUAL);
+    }
+
+    @Test
+    void sum_should_not_overflow() {
+      subject.relation(
+          JsonAssured.JsonOperand.sum("$.big"),
+          JsonAssured.JsonOperand.value("$.count"),
+          JsonAssured.JsonRelation.GREATER_THAN);
+    }
+
+    @Test
+    void when_relation_does_not_hold__then_fail() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.relation(
+                      JsonAssured.JsonOperand.value("$.count"),
+                      JsonAssured.JsonOperand.sum("$.lines[*].amount"),
+                      JsonAssured.JsonRelation.EQUAL));
+
+      Assertions.assertEquals(
+          "Expected $.count to be equal to sum($.lines[*].amount), but $.count was <3> and sum($.lines[*].amount) was <60.5>",
+          error.getMessage());
+    }
+
+    @Test
+    void when_ordering_non_numbers__then_fail() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () -> subject.relation("$.name", "$.count", JsonAssured.JsonRelation.LESS_THAN));
+
+      Assertions.assertEquals(
+          "Expected number values to check that $.name is less than $.count, but actual types were \"string\" and \"integer\"",
+          error.getMessage());
+    }
+
+    @Test
+    void when_aggregating_non_numbers__then_fail() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.relation(
+                      JsonAssured.JsonOperand.sum("$.mixed"),
+                      JsonAssured.JsonOperand.value("$.count"),
+                      JsonAssured.JsonRelation.EQUAL));
+
+      Assertions.assertEquals(
+          "Expected only number values for sum($.mixed), but found <\"two\"> of type \"string\"",
+          error.getMessage());
+    }
+
+    @Test
+    void when_min_of_empty_array__then_fail() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.relation(
+                      JsonAssured.JsonOperand.min("$.empty"),
+                      JsonAssured.JsonOperand.value("$.count"),
+                      JsonAssured.JsonRelation.EQUAL));
+
+      Assertions.assertEquals(
+          "Cannot compute min($.empty), because no values were found", error.getMessage());
+    }
+
+    @Test
+    void when_operand_path_is_blank__then_throw_illegal_argument() {
+      Assertions.assertThrows(
+          IllegalArgumentException.class, () -> JsonAssured.JsonOperand.sum(" "));
+    }
+  }
+
+  @Nested
+  class stringFormats {
+
+    @Language("json")
+    private static final String json =
+        """
+        {
+          "instant": "2024-02-29T10:15:30.123Z",
+          "date": "2024-02-29",
+          "uuid": "123e4567-E89B-12d3-a456-426614174000",
+          "base64": "aGVsbG8=",
+          "email": "first.last+tag@mail.example.com",
+          "dateTime": "29/02/2024 10:15",
+          "ids": ["123e4567-e89b-12d3-a456-426614174000", "not-a-uuid"]
+        }""";
+
+    private final JsonAssured.JsonPathAssertions subject = JsonAssured.assertJson(json);
+
+    @Test
+    void when_values_have_expected_formats__then_ok() {
+      subject
+          .stringPath("$.instant", JsonAssured.JsonStringAssertions::isIsoInstant)
+          .stringPath("$.date", JsonAssured.JsonStringAssertions::isIsoDate)
+          .stringPath("$.uuid", JsonAssured.JsonStringAssertions::isUuid)
+          .stringPath("$.base64", JsonAssured.JsonStringAssertions::isBase64)
+          .stringPath("$.email", JsonAssured.JsonStringAssertions::isEmail)
+          .stringPath("$.dateTime", dateTime -> dateTime.isDateTime("dd/MM/yyyy HH:mm"))
+          .stringPath("$.instant", instant -> instant.isDateTime(DateTimeFormatter.ISO_INSTANT));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+          "2024-01-01T00:00:00Z",
+          "2024-12-31T23:59:59.999999999Z",
+          "2023-02-28T12:00:00.1Z",
+          "2023-02-29T12:00:00Z",
+          "2024-01-01T25:00:00Z",
+          "2024-01-01T00:00:00",
+          "2024-01-01T00:00:00.1",
+          "2024-01-01T00:00:00.1234567890Z",
+          "2024-1-01T00:00:00Z",
+          "2024-01-01 00:00:00Z"
+        })
+    void isIsoInstant_should_agree_with_java_time(String value) {
+      Assertions.assertEquals(
+          StringFormats.isDateTime(value, DateTimeFormatter.ISO_INSTANT),
+          StringFormats.isIsoInstant(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+          "2024-01-01",
+          "2024-02-29",
+          "2023-02-29",
+          "2024-04-31",
+          "2024-13-01",
+          "2024-01-01Z",
+          "2024-01-01+02:00",
+          "2024-01-01+1:00",
+          "20240101",
+          "2024-01-1"
+        })
+    void isIsoDate_should_agree_with_java_time(String value) {
+      Assertions.assertEquals(
+          StringFormats.isDateTime(value, DateTimeFormatter.ISO_DATE),
+          StringFormats.isIsoDate(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {"", "aGVsbG8=", "aGVsbA==", "aGVs", "aGVsbG8", "aGV=bG8=", "a===", "aGVs!A=="})
+    void isBase64_should_agree_with_java_util_for_non_empty_values(String value) {
+      boolean expected;
+      try {
+        java.util.Base64.getDecoder().decode(value);
+        expected = !value.isEmpty();
+      } catch (IllegalArgumentException e) {
+        expected = false;
+      }
+      Assertions.assertEquals(expected, StringFormats.isBase64(value));
+    }
+
+    @Test
+    void isBase64_when_empty__then_fail() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  JsonAssured.assertJson("{\"token\": \"\"}")
+                      .stringPath("$.token", JsonAssured.JsonStringAssertions::isBase64));
+
+      Assertions.assertTrue(error.getMessage().contains("Base64"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+          "plainaddress",
+          "@example.com",
+          "a@b",
+          "a..b@example.com",
+          ".a@example.com",
+          "a@-example.com",
+          "a@example..com",
+          "a@b@example.com",
+          "a b@example.com"
+        })
+    void isEmail_when_invalid__then_fail(String value) {
+      Assertions.assertFalse(StringFormats.isEmail(value));
+    }
+
+    @Test
+    void isUuid_when_invalid__then_fail() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () -> subject.stringPath("$.date", JsonAssured.JsonStringAssertions::isUuid));
+
+      Assertions.assertEquals(
+          "Expected string at path \"$.date\" to be a valid UUID, but actual value was <2024-02-29>",
+          error.getMessage());
+    }
+
+    @Test
+    void isDateTime_when_pattern_does_not_match__then_fail() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () -> subject.stringPath("$.date", date -> date.isDateTime("dd/MM/yyyy")));
+
+      Assertions.assertEquals(
+          "Expected string at path \"$.date\" to be a valid date-time with pattern \"dd/MM/yyyy\", but actual value was <2024-02-29>",
+          error.getMessage());
+    }
+
+    @Test
+    void elementsSatisfy_when_element_has_wrong_format__then_fail() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.stringArrayPath(
+                      "$.ids",
+                      ids -> ids.elementsSatisfy(JsonAssured.JsonStringAssertions::isUuid)));
+
+      Assertions.assertEquals(
+          "String value at path \"$.ids[1]\" did not satisfy provided condition",
+          error.getMessage());
+      Assertions.assertEquals(
+          "Expected string at path \"$.ids[1]\" to be a valid UUID, but actual value was <not-a-uuid>",
+          error.getCause().getMessage());
+    }
+  }
+
+  @Nested
+  class rawStringComparison {
+
+    @Language("json")
+    private static final String json =
+        """
+        {
+          "name": "plain",
+          "unicode": "za\u017c\u00f3\u0142\u0107 \u65e5\u672c \uD83D\uDE00",
+          "escaped": "line\\nbreak",
+          "number": 12,
+          "nested": {"items": [{"id": "a"}, {"skip": [1, {"x": "]"}], "id": "b"}]},
+          "dup": "first",
+          "dup": "second",
+          "spaced" : [ "x" , "y" ]
+        }""";
+
+    private final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+    private final JsonAssured.JsonPathAssertions subject =
+        JsonAssured.assertJson(bytes, JsonAssuredConfig.defaults().withRawStringComparison(true));
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+          "$.name",
+          "$.unicode",
+          "$['name']",
+          "$.nested.items[0].id",
+          "$.nested.items[1].id",
+          "$.dup",
+          "$.spaced[1]"
+        })
+    void raw_slice_should_equal_parsed_value(String path) {
+      var scanner = new RawJsonScanner(bytes);
+      var expected = com.jayway.jsonpath.JsonPath.parse(json).read(path, String.class);
+
+      Assertions.assertTrue(scanner.sliceEquals(scanner.findString(path), expected));
+      Assertions.assertFalse(scanner.sliceEquals(scanner.findString(path), expected + "!"));
+      subject.isEqual(path, expected).stringPath(path, value -> value.isEqualTo(expected));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {"$.escaped", "$.number", "$.missing", "$.nested.items[5].id", "$..id", "$"})
+    void unsupported_slices_should_not_be_found(String path) {
+      Assertions.assertEquals(-1L, new RawJsonScanner(bytes).findString(path));
+    }
+
+    @Test
+    void escaped_values_should_fall_back_to_parsed_comparison() {
+      subject.isEqual("$.escaped", "line\nbreak");
+    }
+
+    @Test
+    void equal_values_should_not_require_parsing_the_document() {
+      var parses = new AtomicInteger();
+      var config =
+          JsonAssuredConfig.defaults()
+              .withRawStringComparison(true)
+              .withListener(
+                  new JsonAssuredListener() {
+                    @Override
+                    public void onParseStart(long byteCount) {
+                      parses.incrementAndGet();
+                    }
+                  });
+
+      JsonAssured.assertJson(bytes, config)
+          .isEqual("$.name", "plain")
+          .stringPath(
+              "$.unicode", value -> value.isEqualTo(JsonPath.parse(json).read("$.unicode")));
+
+      Assertions.assertEquals(0, parses.get());
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+          "{\"name\": \"plain\", }",
+          "{\"name\": \"plain\", \"other\": tru}",
+          "{\"name\": \"plain\", \"other\": 01}",
+          "{\"name\": \"plain\", \"other\": \"\\x\"}",
+          "{\"name\": \"plain\"} {}",
+          "{\"name\": \"plain\""
+        })
+    void when_document_is_malformed__then_behave_as_default_mode(String broken) {
+      var brokenBytes = broken.getBytes(StandardCharsets.UTF_8);
+      var raw = JsonAssuredConfig.defaults().withRawStringComparison(true);
+
+      Assertions.assertFalse(new RawJsonScanner(brokenBytes).isWellFormed());
+      Assertions.assertEquals(
+          outcome(() -> JsonAssured.assertJson(brokenBytes).isEqual("$.name", "plain")),
+          outcome(() -> JsonAssured.assertJson(brokenBytes, raw).isEqual("$.name", "plain")));
+      Assertions.assertEquals(
+          outcome(
+              () ->
+                  JsonAssured.assertJson(brokenBytes)
+                      .stringPath("$.name", value -> value.isEqualTo("plain"))),
+          outcome(
+              () ->
+                  JsonAssured.assertJson(brokenBytes, raw)
+                      .stringPath("$.name", value -> value.isEqualTo("plain"))));
+    }
+
+    @Test
+    void when_trailing_comma__then_raw_mode_should_still_parse_the_document() {
+      var parses = new AtomicInteger();
+      var config =
+          JsonAssuredConfig.defaults()
+              .withRawStringComparison(true)
+              .withListener(
+                  new JsonAssuredListener() {
+                    @Override
+                    public void onParseStart(long byteCount) {
+                      parses.incrementAndGet();
+                    }
+                  });
+
+      outcome(
+          () ->
+              JsonAssured.assertJson(
+                      "{\"name\": \"plain\", }".getBytes(StandardCharsets.UTF_8), config)
+                  .isEqual("$.name", "plain"));
+
+      Assertions.assertEquals(1, parses.get());
+    }
+
+    private String outcome(Executable executable) {
+      try {
+        executable.execute();
+        return "passed";
+      } catch (Throwable e) {
+        return e.getClass().getName() + ": " + e.getMessage();
+      }
+    }
+
+    @Test
+    void when_not_equal__then_fail_with_same_message_as_default_mode() {
+      var rawError =
+          Assertions.assertThrows(AssertionError.class, () -> subject.isEqual("$.name", "other"));
+      var defaultError =
+          Assertions.assertThrows(
+              AssertionError.class, () -> JsonAssured.assertJson(bytes).isEqual("$.name", "other"));
+
+      Assertions.assertEquals(defaultError.getMessage(), rawError.getMessage());
+    }
+
+    @Test
+    void when_value_is_not_string__then_fail() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () -> subject.stringPath("$.number", value -> value.isEqualTo("12")));
+
+      Assertions.assertEquals(
+          "Expected value of type string at path \"$.number\", but actual type was \"integer\" (12)",
+          error.getMessage());
+    }
+  }
+
+  @Nested
+  class boundedMessages {
+
+    private final JsonAssuredConfig config = JsonAssuredConfig.defaults().withMaxValueLength(20);
+
+    @Language("json")
+    private static final String json =
+        """
+        {
+          "small": {"a": 1},
+          "big": {"items": [1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15]},
+          "text": "abcdefghijklmnopqrstuvwxyz"
+        }""";
+
+    @Test
+    void small_values_should_be_rendered_as_before() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class, () -> JsonAssured.assertJson(json, config).isNull("$.small"));
+
+      Assertions.assertEquals(
+          "Expected value at path \"$.small\" to be null, but actual value was <{a=1}>",
+          error.getMessage());
+    }
+
+    @Test
+    void big_values_should_be_truncated() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class, () -> JsonAssured.assertJson(json, config).isNull("$.big"));
+
+      Assertions.assertEquals(
+          "Expected value at path \"$.big\" to be null, but actual value was <{items=[1, 2, 3, 4, ... [truncated]>",
+          error.getMessage());
+    }
+
+    @Test
+    void long_strings_should_be_truncated() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  JsonAssured.assertJson(json, config)
+                      .stringPath("$.text", text -> text.isEqualTo("abc")));
+
+      Assertions.assertEquals(
+          "String value at path \"$.text\" is not equal to expected: Expected: <abc> but was: <abcdefghijklmnopqrst... [truncated, 6 more characters]>",
+          error.getMessage());
+    }
+
+    @Test
+    void json_rendering_should_be_truncated() {
+      var formatter = new ValueFormatter(12);
+
+      Assertions.assertEquals("[\"ab\",1]", formatter.formatJson(List.of("ab", 1)));
+      Assertions.assertEquals(
+          "{\"key\":\"abcd... [truncated]",
+          formatter.formatJson(java.util.Map.of("key", "abcdefghijklmnop")));
+    }
+
+    @Test
+    void message_should_be_rendered_lazily() {
+      var renders = new int[1];
+      var error =
+          new JsonAssertionError(
+              () -> {
+                renders[0]++;
+                return "message";
+              });
+
+      Assertions.assertEquals(0, renders[0]);
+      Assertions.assertEquals("message", error.getMessage());
+      Assertions.assertEquals("message", error.getMessage());
+      Assertions.assertEquals(1, renders[0]);
+    }
+
+    @Test
+    void when_max_value_length_is_not_positive__then_throw_illegal_argument() {
+      var error =
+          Assertions.assertThrows(
+              IllegalArgumentException.class,
+              () -> Assertions.assertNotNull(JsonAssuredConfig.defaults().withMaxValueLength(0)));
+
+      Assertions.assertEquals(
+          "Max value length should be positive (received 0)", error.getMessage());
+    }
+  }
+
+  @Nested
+  class anySatisfy {
+
+    @Language("json")
+    private static final String json =
+        """
+        {
+          "strings": ["a", "bb", "ccc"],
+          "ints": [1, 2, 3]
+        }""";
+
+    private final JsonAssured.JsonPathAssertions subject = JsonAssured.assertJson(json);
+
+    @Test
+    void when_later_element_satisfies__then_ok() {
+      subject
+          .stringArrayPath(
+              "$.strings",
+              strings -> strings.anySatisfy(s -> Assertions.assertEquals(3, s.length())))
+          .intArrayPath("$.ints", ints -> ints.anySatisfy(i -> Assertions.assertEquals(3, i)));
+    }
+
+    @Test
+    void when_no_element_satisfies__then_fail_with_first_failure_as_cause() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.intArrayPath(
+                      "$.ints", ints -> ints.anySatisfy(i -> Assertions.assertEquals(4, i))));
+
+      Assertions.assertEquals(
+          "Int array at path \"$.ints\" expected at least one element to satisfy provided condition, but none of 3 elements did",
+          error.getMessage());
+      Assertions.assertEquals("expected: <4> but was: <1>", error.getCause().getMessage());
+    }
+
+    @Test
+    void when_array_is_empty__then_fail() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  JsonAssured.assertJson("{\"ints\": []}")
+                      .intArrayPath("$.ints", ints -> ints.anySatisfy(i -> {})));
+
+      Assertions.assertEquals(
+          "Int array at path \"$.ints\" expected at least one element to satisfy provided condition, but none of 0 elements did",
+          error.getMessage());
+      Assertions.assertNull(error.getCause());
+    }
+
+    @Test
+    void internal_failures_should_be_stackless_and_final_failure_should_have_stack_trace() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.stringArrayPath(
+                      "$.strings",
+                      strings ->
+                          strings.anySatisfy(
+                              s -> JsonAssured.assertJson(json).isNull("$.strings"))));
+
+      Assertions.assertEquals(0, error.getCause().getStackTrace().length);
+      Assertions.assertTrue(error.getStackTrace().length > 0);
+      Assertions.assertTrue(
+          Assertions.assertThrows(AssertionError.class, () -> subject.isNull("$.ints"))
+                  .getStackTrace()
+                  .length
+              > 0);
+    }
+  }
+
+  @Nested
+  class predicates {
+
+    @Language("json")
+    private static final String json =
+        """
+        {
+          "strings": ["a", "bb", "ccc"],
+          "ints": [1, 2, 3, 4],
+          "longs": [1234567890123, 2],
+          "decimals": [1.5, 2.5],
+          "int": 5,
+          "string": "value"
+        }""";
+
+    private final JsonAssured.JsonPathAssertions subject = JsonAssured.assertJson(json);
+
+    @Test
+    void when_predicates_match__then_ok() {
+      subject
+          .stringArrayPath(
+              "$.strings",
+              strings ->
+                  strings
+                      .allMatch(s -> !s.isEmpty())
+                      .anyMatch(s -> s.length() == 3)
+                      .noneMatch(String::isBlank))
+          .intArrayPath(
+              "$.ints",
+              ints ->
+                  ints.allMatchInt(i -> i > 0)
+                      .anyMatchInt(i -> i == 4)
+                      .noneMatchInt(i -> i > 4)
+                      .allMatchLong(l -> l < 10L)
+                      .allMatch(i -> i < 5))
+          .longArrayPath("$.longs", longs -> longs.anyMatchLong(l -> l > Integer.MAX_VALUE))
+          .decimalArrayPath("$.decimals", decimals -> decimals.allMatch(d -> d.scale() == 1))
+          .intPath("$.int", value -> value.matchesInt(i -> i % 5 == 0).matches(i -> i == 5))
+          .stringPath("$.string", value -> value.matches(s -> s.startsWith("v")));
+    }
+
+    @Test
+    void allMatch_when_some_elements_do_not_match__then_fail() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () -> subject.intArrayPath("$.ints", ints -> ints.allMatchInt(i -> i % 2 == 0)));
+
+      Assertions.assertEquals(
+          "Int array at path \"$.ints\" expected all elements to match predicate, but 2 of 4 elements did not, first at index [0]: <1>",
+          error.getMessage());
+    }
+
+    @Test
+    void noneMatch_when_some_elements_match__then_fail() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.stringArrayPath(
+                      "$.strings", strings -> strings.noneMatch(s -> s.length() > 1)));
+
+      Assertions.assertEquals(
+          "String array at path \"$.strings\" expected no elements to match predicate, but 2 of 3 elements did, first at index [1]: <bb>",
+          error.getMessage());
+    }
+
+    @Test
+    void anyMatch_when_no_elements_match__then_fail() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  subject.stringArrayPath(
+                      "$.strings", strings -> strings.anyMatch(String::isEmpty)));
+
+      Assertions.assertEquals(
+          "String array at path \"$.strings\" expected at least one element to match predicate, but none of 3 elements did",
+          error.getMessage());
+    }
+
+    @Test
+    void anyMatch_when_array_is_empty__then_fail() {
+      var empty = JsonAssured.assertJson("{\"strings\": [], \"ints\": [], \"longs\": []}");
+
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () -> empty.stringArrayPath("$.strings", strings -> strings.anyMatch(s -> true)));
+      Assertions.assertEquals(
+          "String array at path \"$.strings\" expected at least one element to match predicate, but none of 0 elements did",
+          error.getMessage());
+      Assertions.assertThrows(
+          AssertionError.class,
+          () -> empty.intArrayPath("$.ints", ints -> ints.anyMatchInt(i -> true)));
+      Assertions.assertThrows(
+          AssertionError.class,
+          () -> empty.longArrayPath("$.longs", longs -> longs.anyMatchLong(l -> true)));
+    }
+
+    @Test
+    void matches_when_predicate_fails__then_fail() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () -> subject.intPath("$.int", value -> value.matchesInt(i -> i > 5)));
+
+      Assertions.assertEquals(
+          "Expected Int number at path \"$.int\" to match provided predicate, but actual value was <5>",
+          error.getMessage());
+    }
+
+    @Test
+    void int_predicate_on_long_array__then_throw_illegal_state() {
+      var error =
+          Assertions.assertThrows(
+              IllegalStateException.class,
+              () -> subject.longArrayPath("$.longs", longs -> longs.allMatchInt(i -> i > 0)));
+
+      Assertions.assertEquals("IntPredicate cannot be applied to Long array", error.getMessage());
+    }
+  }
+
+  @Nested
+  class validate {
+
+    @Language("json")
+    private static final String json =
+        """
+        {
+          "name": "value",
+          "count": 3,
+          "flag": true
+        }""";
+
+    private final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void when_all_checks_pass__then_result_is_valid() {
+      var result =
+          JsonAssured.validate(
+              bytes,
+              json ->
+                  json.isEqual("$.name", "value")
+                      .intPath("$.count", count -> count.isPositive())
+                      .isTrue("$.flag"));
+
+      Assertions.assertTrue(result.isValid());
+      Assertions.assertEquals(List.of(), result.violations());
+    }
+
+    @Test
+    void when_checks_fail__then_collect_every_violation_without_throwing() {
+      var result =
+          JsonAssured.validate(
+              bytes,
+              json ->
+                  json.isEqual("$.name", "other")
+                      .intPath("$.count", count -> count.isNegative())
+                      .isTrue("$.flag")
+                      .isFalse("$.flag"));
+
+      Assertions.assertFalse(result.isValid());
+      Assertions.assertEquals(
+          List.of(
+              "String value at path \"$.name\" are not equal: Expected: <other> but was: <value>",
+              "Expected Int number at path \"$.count\" to be negative, but actual value was <3>",
+              "Expected value at path \"$.flag\" to be false, but actual value was true"),
+          result.violations());
+    }
+
+    @Test
+    void when_path_is_missing__then_report_violation() {
+      var result = JsonAssured.validate(bytes, json -> json.isNotNull("$.missing"));
+
+      Assertions.assertEquals(1, result.violations().size());
+      Assertions.assertTrue(result.violations().get(0).contains("$['missing']"));
+    }
+
+    @Test
+    void when_json_is_invalid__then_report_violation() {
+      var result =
+          JsonAssured.validate(
+              "{".getBytes(StandardCharsets.UTF_8), json -> json.isNotNull("$.name"));
+
+      Assertions.assertFalse(result.isValid());
+    }
+
+    @Test
+    void when_specification_throws_unrelated_exception__then_rethrow() {
+      Assertions.assertThrows(
+          IllegalStateException.class,
+          () ->
+              JsonAssured.validate(
+                  bytes,
+                  json -> {
+                    throw new IllegalStateException();
+                  }));
+    }
+  }
+
+  @Nested
+  class sharedAssertions {
+
+    @Test
+    void when_shared_between_threads__then_parse_document_once() throws Exception {
+      var parses = new AtomicInteger();
+      var subject =
+          new JsonAssured.JsonPathAssertions(
+              new MemoizedSupplier<>(
+                  () -> {
+                    parses.incrementAndGet();
+                    return JsonPath.parse("{\"name\": \"value\", \"ints\": [1, 2, 3]}");
+                  }));
+      var threads = 8;
+      var start = new CountDownLatch(1);
+      var executor = Executors.newFixedThreadPool(threads);
+      try {
+        var futures = new ArrayList<Future<?>>();
+        for (var idx = 0; idx < threads; idx++) {
+          futures.add(
+              executor.submit(
+                  () -> {
+                    start.await();
+                    return subject
+                        .isEqual("$.name", "value")
+                        .intArrayPath("$.ints", ints -> ints.hasSize(3));
+                  }));
+        }
+        start.countDown();
+        for (var future : futures) {
+          future.get(10, TimeUnit.SECONDS);
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+
+      Assertions.assertEquals(1, parses.get());
+    }
+  }
+
+  @Nested
+  class freeze {
+
+    @Language("json")
+    private static final String json =
+        """
+        {
+          "name": "value",
+          "items": [{"id": 1}, {"id": 2}, null]
+        }""";
+
+    @Test
+    void when_frozen__then_document_tree_is_unmodifiable() {
+      var subject = JsonAssured.freeze(json.getBytes(StandardCharsets.UTF_8));
+
+      var root = subject.readVal("$");
+      var items = subject.readVal("$.items");
+      var first = subject.readVal("$.items[0]");
+
+      Assertions.assertAll(
+          () ->
+              Assertions.assertThrows(
+                  UnsupportedOperationException.class, () -> ((Map<?, ?>) root).remove("name")),
+          () ->
+              Assertions.assertThrows(
+                  UnsupportedOperationException.class, () -> ((List<?>) items).clear()),
+          () ->
+              Assertions.assertThrows(
+                  UnsupportedOperationException.class, () -> ((Map<?, ?>) first).clear()));
+    }
+
+    @Test
+    void when_source_bytes_change_after_freeze__then_assertions_use_frozen_content() {
+      var bytes = json.getBytes(StandardCharsets.UTF_8);
+      var subject =
+          JsonAssured.freeze(bytes, JsonAssuredConfig.defaults().withRawStringComparison(true));
+
+      Arrays.fill(bytes, (byte) ' ');
+
+      Assertions.assertNotNull(
+          subject
+              .isEqual("$.name", "value")
+              .objectArrayPath("$.items", items -> items.hasSize(3))
+              .isNull("$.items[2]"));
+    }
+
+    @Test
+    void when_json_is_invalid__then_fail_eagerly() {
+      Assertions.assertThrows(
+          InvalidJsonException.class,
+          () -> JsonAssured.freeze("{".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 1000})
+    void when_assertion_fails__then_message_is_same_as_for_non_frozen_document(int maxValueLength) {
+      var config = JsonAssuredConfig.defaults().withMaxValueLength(maxValueLength);
+      var frozen = JsonAssured.freeze(json.getBytes(StandardCharsets.UTF_8), config);
+      var plain = JsonAssured.assertJson(json.getBytes(StandardCharsets.UTF_8), config);
+
+      for (var path : List.of("$", "$.items", "$.items[0]")) {
+        Assertions.assertEquals(
+            Assertions.assertThrows(AssertionError.class, () -> plain.isNull(path)).getMessage(),
+            Assertions.assertThrows(AssertionError.class, () -> frozen.isNull(path)).getMessage());
+      }
+    }
+  }
+
+  @Nested
+  class assertAll {
+
+    private List<byte[]> bodies(String... jsons) {
+      var result = new ArrayList<byte[]>();
+      for (var json : jsons) {
+        result.add(json.getBytes(StandardCharsets.UTF_8));
+      }
+      return result;
+    }
+
+    @Test
+    void when_all_responses_match__then_ok() {
+      var bodies = new ArrayList<byte[]>();
+      for (var idx = 0; idx < 200; idx++) {
+        bodies.add(("{\"id\": " + idx + "}").getBytes(StandardCharsets.UTF_8));
+      }
+
+      JsonAssured.assertAll(bodies, json -> json.intPath("$.id", id -> id.isGte(0)));
+    }
+
+    @Test
+    void when_some_responses_fail__then_group_failures_by_response() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  JsonAssured.assertAll(
+                      bodies("{\"id\": 1}", "{\"id\": -1}", "{\"id\": 2}", "{\"id\": -2}"),
+                      json -> json.intPath("$.id", id -> id.isPositive()).isNotNull("$.id"),
+                      Runnable::run));
+
+      Assertions.assertEquals(
+          String.format(
+              "2 of 4 responses did not satisfy provided specification:%n"
+                  + "  response [1]:%n"
+                  + "    - Expected Int number at path \"$.id\" to be positive, but actual value was <-1>%n"
+                  + "  response [3]:%n"
+                  + "    - Expected Int number at path \"$.id\" to be positive, but actual value was <-2>"),
+          error.getMessage());
+    }
+
+    @Test
+    void when_many_responses_fail__then_report_first_failures_and_count_the_rest() {
+      var bodies = new ArrayList<byte[]>();
+      for (var idx = 0; idx < 120; idx++) {
+        bodies.add(("{\"id\": " + -idx + "}").getBytes(StandardCharsets.UTF_8));
+      }
+
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  JsonAssured.assertAll(
+                      bodies, json -> json.intPath("$.id", id -> id.isPositive())));
+
+      var message = error.getMessage();
+      Assertions.assertTrue(
+          message.startsWith("120 of 120 responses did not satisfy provided specification:"));
+      Assertions.assertTrue(message.contains("response [49]:"));
+      Assertions.assertFalse(message.contains("response [50]:"));
+      Assertions.assertTrue(message.endsWith("... and 70 more responses"));
+    }
+
+    @Test
+    void when_specification_throws_unrelated_exception__then_rethrow() {
+      var executor = Executors.newFixedThreadPool(2);
+      try {
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () ->
+                JsonAssured.assertAll(
+                    bodies("{}", "{}"),
+                    json -> {
+                      throw new IllegalStateException();
+                    },
+                    executor));
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  @Nested
+  class assertJsonAsync {
+
+    private final byte[] body = "{\"id\": 5}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void when_specification_passes__then_complete_with_assertions() throws Exception {
+      var result =
+          JsonAssured.assertJsonAsync(
+              CompletableFuture.completedFuture(body),
+              json -> json.intPath("$.id", id -> id.isPositive()));
+
+      Assertions.assertNotNull(result.get(10, TimeUnit.SECONDS).isNotNull("$.id"));
+    }
+
+    @Test
+    void when_specification_fails__then_complete_exceptionally() {
+      var pending = new CompletableFuture<byte[]>();
+      var result =
+          JsonAssured.assertJsonAsync(
+              pending, json -> json.intPath("$.id", id -> id.isNegative()), Runnable::run);
+
+      Assertions.assertFalse(result.isDone());
+      pending.complete(body);
+
+      var error = Assertions.assertThrows(CompletionException.class, result::join);
+      Assertions.assertInstanceOf(AssertionError.class, error.getCause());
+      Assertions.assertEquals(
+          "Expected Int number at path \"$.id\" to be negative, but actual value was <5>",
+          error.getCause().getMessage());
+    }
+
+    @Test
+    void when_body_future_fails__then_propagate_failure() {
+      var failure = new IllegalStateException("request failed");
+      var result =
+          JsonAssured.assertJsonAsync(
+              CompletableFuture.failedFuture(failure), json -> json.isNotNull("$.id"));
+
+      var error = Assertions.assertThrows(CompletionException.class, result::join);
+      Assertions.assertSame(failure, error.getCause());
+    }
+  }
+
+  @Nested
+  class streamingElements {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 7, 1000})
+    void when_json_array_is_split_across_chunks__then_check_each_element(int chunkSize) {
+      var elements =
+          WebFluxJsonAssured.jsonElements(
+                  chunks(
+                      "[ {\"id\": 1, \"tags\": [\"a,]\"]}, {\"id\": 2, \"name\": \"x\\\"}\"},\n{\"id\": 3} ]",
+                      chunkSize),
+                  json -> json.intPath("$.id", id -> id.isPositive()))
+              .collectList()
+              .block();
+
+      Assertions.assertNotNull(elements);
+      Assertions.assertEquals(3, elements.size());
+    }
+
+    @Test
+    void when_ndjson_body__then_check_each_line() {
+      var elements =
+          WebFluxJsonAssured.jsonElements(
+                  chunks("{\"id\": 1}\n\n{\"id\": 2}\r\n{\"id\": 3}", 4),
+                  json -> json.intPath("$.id", id -> id.isPositive()))
+              .collectList()
+              .block();
+
+      Assertions.assertNotNull(elements);
+      Assertions.assertEquals(3, elements.size());
+    }
+
+    @Test
+    void when_element_fails__then_report_element_index() {
+      var thrown =
+          Assertions.assertThrows(
+              RuntimeException.class,
+              () ->
+                  WebFluxJsonAssured.jsonElements(
+                          chunks("[{\"id\": 1}, {\"id\": -1}]", 5),
+                          json -> json.intPath("$.id", id -> id.isPositive()))
+                      .blockLast());
+
+      var error = Exceptions.unwrap(thrown);
+      Assertions.assertInstanceOf(AssertionError.class, error);
+      Assertions.assertEquals(
+          "Streamed JSON element [1] did not satisfy provided condition", error.getMessage());
+      Assertions.assertEquals(
+          "Expected Int number at path \"$.id\" to be positive, but actual value was <-1>",
+          error.getCause().getMessage());
+    }
+
+    @Test
+    void when_array_is_not_closed__then_fail() {
+      var thrown =
+          Assertions.assertThrows(
+              RuntimeException.class,
+              () ->
+                  WebFluxJsonAssured.jsonElements(
+                          chunks("[{\"id\": 1}, {\"id\": 2}", 5), json -> json.isNotNull("$.id"))
+                      .blockLast());
+
+      var error = Exceptions.unwrap(thrown);
+      Assertions.assertInstanceOf(AssertionError.class, error);
+      Assertions.assertEquals("Streamed JSON array was not closed", error.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 1000})
+    void when_ndjson_framing_and_lines_are_arrays__then_check_each_line(int chunkSize) {
+      var elements =
+          WebFluxJsonAssured.jsonElements(
+                  chunks("[1,2]\n[3]\n", chunkSize),
+                  WebFluxJsonAssured.JsonStreamFraming.NDJSON,
+                  json -> json.isNotNull("$[0]"))
+              .collectList()
+              .block();
+
+      Assertions.assertNotNull(elements);
+      Assertions.assertEquals(
+          List.of(List.of(1, 2), List.of(3)),
+          List.of(elements.get(0).readVal("$"), elements.get(1).readVal("$")));
+    }
+
+    @Test
+    void when_array_framing_and_body_is_not_array__then_fail() {
+      var thrown =
+          Assertions.assertThrows(
+              RuntimeException.class,
+              () ->
+                  WebFluxJsonAssured.jsonElements(
+                          chunks("{\"id\": 1}\n{\"id\": 2}", 5),
+                          WebFluxJsonAssured.JsonStreamFraming.ARRAY,
+                          json -> json.isNotNull("$.id"))
+                      .blockLast());
+
+      var error = Exceptions.unwrap(thrown);
+      Assertions.assertInstanceOf(AssertionError.class, error);
+      Assertions.assertEquals(
+          "Expected streamed JSON array to start with '[', but was '{'", error.getMessage());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+      "application/x-ndjson, NDJSON",
+      "application/x-ndjson;charset=UTF-8, NDJSON",
+      "application/stream+json, NDJSON",
+      "application/json, ARRAY",
+      "application/json;charset=UTF-8, ARRAY",
+      "text/plain, AUTO"
+    })
+    void framing_should_follow_content_type(
+        String contentType, WebFluxJsonAssured.JsonStreamFraming expected) {
+      Assertions.assertEquals(
+          expected,
+          WebFluxJsonAssured.JsonStreamFraming.forContentType(
+              MediaType.parseMediaType(contentType)));
+      Assertions.assertEquals(
+          WebFluxJsonAssured.JsonStreamFraming.AUTO,
+          WebFluxJsonAssured.JsonStreamFraming.forContentType(null));
+    }
+  }
+
+  @Nested
+  class dataBufferBody {
+
+    @Test
+    void when_body_is_split_into_buffers__then_read_without_joining() {
+      var bytes = "{\"name\": \"caf\u00e9\", \"count\": 2}".getBytes(StandardCharsets.UTF_8);
+      var factory = new DefaultDataBufferFactory();
+      var buffers = new ArrayList<DataBuffer>();
+      for (var idx = 0; idx < bytes.length; idx++) {
+        buffers.add(factory.wrap(new byte[] {bytes[idx]}));
+      }
+
+      var assertions =
+          WebFluxJsonAssured.assertJson(
+                  Flux.fromIterable(buffers),
+                  json ->
+                      json.isEqual("$.name", "caf\u00e9")
+                          .intPath("$.count", count -> count.isPositive()))
+              .block();
+
+      Assertions.assertNotNull(assertions);
+      Assertions.assertNotNull(assertions.isNotNull("$.count"));
+    }
+
+    @Test
+    void when_flux_body_is_empty__then_fail_like_exchange_result() {
+      var error =
+          Assertions.assertThrows(
+              RuntimeException.class,
+              () ->
+                  WebFluxJsonAssured.assertJson(
+                          Flux.empty(),
+                          JsonAssuredConfig.defaults(),
+                          json -> json.isNotNull("$.count"))
+                      .block());
+
+      var cause = Exceptions.unwrap(error);
+      Assertions.assertInstanceOf(AssertionError.class, cause);
+      Assertions.assertEquals("Response body is null", cause.getMessage());
+    }
+
+    @Test
+    void when_flux_body_is_cancelled__then_release_collected_buffers() {
+      var released = new AtomicInteger();
+      var buffer =
+          (DataBuffer)
+              Proxy.newProxyInstance(
+                  PooledDataBuffer.class.getClassLoader(),
+                  new Class<?>[] {PooledDataBuffer.class},
+                  (proxy, method, args) -> {
+                    switch (method.getName()) {
+                      case "isAllocated":
+                        return true;
+                      case "release":
+                        released.incrementAndGet();
+                        return true;
+                      default:
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                  });
+
+      WebFluxJsonAssured.assertJson(
+              Flux.just(buffer).concatWith(Flux.never()), json -> json.isNotNull("$"))
+          .subscribe()
+          .dispose();
+
+      Assertions.assertEquals(1, released.get());
+    }
+
+    @Test
+    void chain_input_stream_reads_skips_and_reports_available_across_buffers() throws Exception {
+      try (var stream =
+          new ByteBufferChainInputStream(
+              List.of(
+                  ByteBuffer.wrap(new byte[] {1, 2}),
+                  ByteBuffer.allocate(0),
+                  ByteBuffer.wrap(new byte[] {3, 4, 5})))) {
+        var target = new byte[4];
+
+        Assertions.assertEquals(1, stream.read());
+        Assertions.assertEquals(1, stream.available());
+        Assertions.assertEquals(1, stream.read(target, 0, 4));
+        Assertions.assertEquals(2L, stream.skip(2));
+        Assertions.assertEquals(5, stream.read());
+        Assertions.assertEquals(-1, stream.read());
+        Assertions.assertEquals(-1, stream.read(target, 0, 4));
+      }
+    }
+  }
+
+  @Nested
+  class mockMvcJsonPathSpec {
+
+    private MvcResult result(String body) throws Exception {
+      var response = new MockHttpServletResponse();
+      response.setContentType("application/json");
+      response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+      return (MvcResult)
+          Proxy.newProxyInstance(
+              MvcResult.class.getClassLoader(),
+              new Class<?>[] {MvcResult.class},
+              (proxy, method, args) -> {
+                if (method.getName().equals("getResponse")) {
+                  return response;
+                }
+                throw new UnsupportedOperationException(method.getName());
+              });
+    }
+
+    @Test
+    void when_response_matches__then_ok() throws Exception {
+      MockMvcJsonAssured.jsonPathSpec(
+              json ->
+                  json.isEqual("$.name", "caf\u00e9")
+                      .intPath("$.count", count -> count.isPositive()))
+          .match(result("{\"name\": \"caf\u00e9\", \"count\": 2}"));
+    }
+
+    @Test
+    void when_response_does_not_match__then_fail() {
+      var matcher = MockMvcJsonAssured.jsonPathSpec(json -> json.isEqual("$.name", "other"));
+
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class, () -> matcher.match(result("{\"name\": \"value\"}")));
+
+      Assertions.assertEquals(
+          "String value at path \"$.name\" are not equal: Expected: <other> but was: <value>",
+          error.getMessage());
+    }
+  }
+
+  @Nested
+  class sseEvents {
+
+    private static final String stream =
+        ": keep-alive\n\n"
+            + "event: created\nid: 1\ndata: {\"id\": 0,\ndata: \"name\": \"first\"}\n\n"
+            + "retry: 1000\r\n\r\n"
+            + "data:{\"id\": 1, \"name\": \"second\"}\r\n\r\n"
+            + "data: {\"id\": 2, \"name\": \"third\"}\r\r"
+            + "data: {\"id\": 3, \"name\": \"unterminated\"}";
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 5, 1000})
+    void indexed_consumer_receives_each_dispatched_event(int chunkSize) {
+      var events =
+          WebFluxJsonAssured.sseSpec(
+                  chunks(stream, chunkSize),
+                  (index, event) -> event.intPath("$.id", id -> id.isEqualTo(index)))
+              .collectList()
+              .block();
+
+      Assertions.assertNotNull(events);
+      Assertions.assertEquals(3, events.size());
+    }
+
+    @Test
+    void uniform_consumer_failure__then_report_event_index() {
+      var thrown =
+          Assertions.assertThrows(
+              RuntimeException.class,
+              () ->
+                  WebFluxJsonAssured.sseSpec(
+                          chunks(stream, 7),
+                          event -> event.stringPath("$.name", name -> name.isNotEqualTo("second")))
+                      .blockLast());
+
+      var error = Exceptions.unwrap(thrown);
+      Assertions.assertInstanceOf(AssertionError.class, error);
+      Assertions.assertEquals(
+          "Server-sent event [1] did not satisfy provided condition", error.getMessage());
+    }
+  }
+
+  @Nested
+  class eventually {
+
+    @Test
+    void when_body_eventually_matches__then_assert_only_distinct_bodies() {
+      var bodies =
+          List.of(
+              "{\"status\": \"PENDING\"}",
+              "{\"status\": \"PENDING\"}",
+              "{\"status\": \"PENDING\"}",
+              "{\"status\": \"RUNNING\"}",
+              "{\"status\": \"RUNNING\"}",
+              "{\"status\": \"DONE\"}");
+      var fetches = new AtomicInteger();
+      var evaluations = new AtomicInteger();
+
+      var result =
+          JsonAssured.eventually(
+              () ->
+                  bodies
+                      .get(Math.min(fetches.getAndIncrement(), bodies.size() - 1))
+                      .getBytes(StandardCharsets.UTF_8),
+              json -> {
+                evaluations.incrementAndGet();
+                json.isEqual("$.status", "DONE");
+              },
+              Duration.ofSeconds(10),
+              Duration.ofMillis(1));
+
+      Assertions.assertNotNull(result);
+      Assertions.assertEquals(6, fetches.get());
+      Assertions.assertEquals(3, evaluations.get());
+    }
+
+    @Test
+    void when_fetch_reuses_buffer__then_compare_with_retained_copy_of_previous_body() {
+      var bodies =
+          List.of("{\"status\": \"ANY\"}", "{\"status\": \"ANY\"}", "{\"status\": \"END\"}");
+      var buffer = new byte[bodies.get(0).length()];
+      var fetches = new AtomicInteger();
+      var evaluations = new AtomicInteger();
+
+      var result =
+          JsonAssured.eventually(
+              () -> {
+                var body = bodies.get(Math.min(fetches.getAndIncrement(), bodies.size() - 1));
+                System.arraycopy(
+                    body.getBytes(StandardCharsets.UTF_8), 0, buffer, 0, buffer.length);
+                return buffer;
+              },
+              json -> {
+                evaluations.incrementAndGet();
+                json.isEqual("$.status", "END");
+              },
+              Duration.ofSeconds(10),
+              Duration.ofMillis(1));
+
+      Assertions.assertNotNull(result);
+      Assertions.assertEquals(3, fetches.get());
+      Assertions.assertEquals(2, evaluations.get());
+    }
+
+    @Test
+    void when_field_is_missing_or_body_is_not_json_at_first__then_keep_polling() {
+      var bodies = List.of("warming up", "{}", "{\"status\": \"DONE\"}");
+      var fetches = new AtomicInteger();
+
+      var result =
+          JsonAssured.eventually(
+              () ->
+                  bodies
+                      .get(Math.min(fetches.getAndIncrement(), bodies.size() - 1))
+                      .getBytes(StandardCharsets.UTF_8),
+              json -> json.isEqual("$.status", "DONE"),
+              Duration.ofSeconds(10),
+              Duration.ofMillis(1));
+
+      Assertions.assertNotNull(result);
+      Assertions.assertEquals(3, fetches.get());
+    }
+
+    @Test
+    void when_field_never_appears__then_fail_with_path_failure_as_cause() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  JsonAssured.eventually(
+                      () -> "{}".getBytes(StandardCharsets.UTF_8),
+                      json -> json.isEqual("$.status", "DONE"),
+                      Duration.ofMillis(50),
+                      Duration.ofMillis(5)));
+
+      Assertions.assertInstanceOf(PathNotFoundException.class, error.getCause());
+    }
+
+    @Test
+    void when_body_never_matches__then_fail_with_last_failure_as_cause() {
+      var error =
+          Assertions.assertThrows(
+              AssertionError.class,
+              () ->
+                  JsonAssured.eventually(
+                      () -> "{\"status\": \"PENDING\"}".getBytes(StandardCharsets.UTF_8),
+                      json -> json.isEqual("$.status", "DONE"),
+                      Duration.ofMillis(50),
+                      Duration.ofMillis(5)));
+
+      Assertions.assertTrue(
+          error
+              .getMessage()
+              .startsWith("Expected JSON to satisfy provided condition within 50 ms"));
+      Assertions.assertTrue(error.getMessage().endsWith("with 1 distinct bodies"));
+      Assertions.assertEquals(
+          "String value at path \"$.status\" are not equal: Expected: <DONE> but was: <PENDING>",
+          error.getCause().getMessage());
+    }
+
+    @Test
+    void when_interval_is_not_positive__then_throw_illegal_argument() {
+      var error =
+          Assertions.assertThrows(
+              IllegalArgumentException.class,
+              () ->
+                  JsonAssured.eventually(
+                      () -> new byte[0], json -> {}, Duration.ofSeconds(1), Duration.ZERO));
+
+      Assertions.assertEquals("Interval should be positive (received PT0S)", error.getMessage());
+    }
+  }
+
+  @Nested
+  class listeners {
+
+    @Language("json")
+    private static final String json =
+        """
+        {
+          "name": "value",
+          "count": 3
+        }""";
+
+    private final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+    private final class RecordingListener implements JsonAssuredListener {
+
+      private final List<String> events = new ArrayList<>();
+
+      @Override
+      public void onParseStart(long byteCount) {
+        events.add("parseStart:" + byteCount);
+      }
+
+      @Override
+      public void onParseEnd(long byteCount, long durationNanos) {
+        events.add("parseEnd:" + byteCount + ":" + (durationNanos >= 0));
+      }
+
+      @Override
+      public void onPathEvaluated(String jsonPath, String resultType, long durationNanos) {
+        events.add("path:" + jsonPath + ":" + resultType);
+      }
+
+      @Override
+      public void onAssertionStart(String assertion, String target, long documentSize) {
+        events.add("assertionStart:" + assertion + ":" + documentSize);
+      }
+
+      @Override
+      public void onAssertion(String assertion, String target, boolean passed, long durationNanos) {
+        events.add("assertion:" + assertion + ":" + target + ":" + passed);
+      }
+    }
+
+    @Test
+    void config_listener_receives_parse_path_and_assertion_callbacks() {
+      var listener = new RecordingListener();
+
+      Assertions.assertThrows(
+          AssertionError.class,
+          () ->
+              JsonAssured.assertJson(bytes, JsonAssuredConfig.defaults().withListener(listener))
+                  .intPath("$.count", count -> count.isPositive())
+                  .isNull("$.name"));
+
+      Assertions.assertEquals(
+          List.of(
+              "assertionStart:intPath:" + bytes.length,
+              "parseStart:" + bytes.length,
+              "parseEnd:" + bytes.length + ":true",
+              "path:$.count:integer",
+              "assertion:intPath:$.count:true",
+              "assertionStart:isNull:" + bytes.length,
+              "path:$.name:string",
+              "assertion:isNull:$.name:false"),
+          listener.events);
+    }
+
+    @Test
+    void validate_reports_collected_failures_as_failed_assertions() {
+      var listener = new RecordingListener();
+
+      JsonAssured.validate(
+          bytes,
+          JsonAssuredConfig.defaults().withListener(listener),
+          json -> json.isNotNull("$.missing").isNotNull("$.name"));
+
+      Assertions.assertEquals(
+          List.of(
+              "assertionStart:isNotNull:" + bytes.length,
+              "parseStart:" + bytes.length,
+              "parseEnd:" + bytes.length + ":true",
+              "path:$.missing:missing",
+              "assertion:isNotNull:$.missing:false",
+              "assertionStart:isNotNull:" + bytes.length,
+              "path:$.name:string",
+              "assertion:isNotNull:$.name:true"),
+          listener.events);
+    }
+
+    @Test
+    void when_parse_fails__then_parse_end_is_still_reported() {
+      var listener = new RecordingListener();
+      var invalid = "{\"name\": ".getBytes(StandardCharsets.UTF_8);
+
+      Assertions.assertThrows(
+          InvalidJsonException.class,
+          () ->
+              JsonAssured.assertJson(invalid, JsonAssuredConfig.defaults().withListener(listener))
+                  .isNotNull("$.name"));
+
+      Assertions.assertEquals(
+          List.of(
+              "assertionStart:isNotNull:" + invalid.length,
+              "parseStart:" + invalid.length,
+              "parseEnd:" + invalid.length + ":true",
+              "assertion:isNotNull:$.name:false"),
+          listener.events);
+    }
+
+    @Test
+    void streamed_paths_and_relation_operands_are_reported_as_path_evaluations() {
+      var listener = new RecordingListener();
+      var document =
+          "{\"items\": [{\"x\": 1}, {\"x\": 2}], \"total\": 3}".getBytes(StandardCharsets.UTF_8);
+
+      JsonAssured.assertJson(document, JsonAssuredConfig.defaults().withListener(listener))
+          .intArrayPath("$..x", xs -> xs.containsAny(List.of(2)))
+          .relation(
+              JsonAssured.JsonOperand.sum("$.items[*].x"),
+              JsonAssured.JsonOperand.value("$.total"),
+              JsonAssured.JsonRelation.EQUAL);
+
+      Assertions.assertEquals(
+          List.of(
+              "assertionStart:intArrayPath:" + document.length,
+              "parseStart:" + document.length,
+              "parseEnd:" + document.length + ":true",
+              "path:$..x:array",
+              "assertion:intArrayPath:$..x:true",
+              "assertionStart:relation:" + document.length,
+              "path:sum($.items[*].x):long",
+              "path:$.total:integer",
+              "assertion:relation:sum($.items[*].x) equal to $.total:true"),
+          listener.events);
+    }
+
+    @Test
+    void relation_target_describes_both_operands() {
+      var listener = new RecordingListener();
+
+      JsonAssured.assertJson(bytes, JsonAssuredConfig.defaults().withListener(listener))
+          .relation("$.count", "$.count", JsonAssured.JsonRelation.EQUAL);
+
+      Assertions.assertEquals(
+          "assertion:relation:$.count equal to $.count:true",
+          listener.events.get(listener.events.size() - 1));
+    }
+
+    @Test
+    void global_listener_applies_until_unregistered() {
+      var listener = new RecordingListener();
+      JsonAssured.registerListener(listener);
+      try {
+        Assertions.assertNotNull(JsonAssured.assertJson(json).isNotNull("$.name"));
+      } finally {
+        JsonAssured.unregisterListener(listener);
+      }
+      Assertions.assertNotNull(JsonAssured.assertJson(json).isNotNull("$.name"));
+
+      Assertions.assertEquals(
+          List.of(
+              "assertionStart:isNotNull:" + bytes.length,
+              "parseStart:" + bytes.length,
+              "parseEnd:" + bytes.length + ":true",
+              "path:$.name:string",
+              "assertion:isNotNull:$.name:true"),
+          listener.events);
+    }
+  }
+
+  @Nested
+  class flightRecorderEvents {
+
+    @Test
+    void when_no_recording_enables_events__then_no_listener_is_resolved() {
+      Assertions.assertNull(JsonListeners.resolve(JsonAssuredConfig.defaults()));
+    }
+
+    @Test
+    void when_recording_enables_events__then_emit_parse_path_and_assertion_events(
+        @TempDir Path tempDir) throws Exception {
+      var bytes = "{\"name\": \"value\"}".getBytes(StandardCharsets.UTF_8);
+      var dump = tempDir.resolve("recording.jfr");
+      try (var recording = new Recording()) {
+        recording.enable("jsonassured.Parse");
+        recording.enable("jsonassured.PathRead");
+        recording.enable("jsonassured.Assertion");
+        recording.start();
+        Assertions.assertNotNull(JsonAssured.assertJson(bytes).isNotNull("$.name"));
+        recording.stop();
+        recording.dump(dump);
+      }
+
+      var events = RecordingFile.readAllEvents(dump);
+      var parse = eventOfType(events, "jsonassured.Parse");
+      var pathRead = eventOfType(events, "jsonassured.PathRead");
+      var assertion = eventOfType(events, "jsonassured.Assertion");
+      Assertions.assertAll(
+          () -> Assertions.assertEquals(bytes.length, parse.getLong("documentSize")),
+          () -> Assertions.assertEquals("$.name", pathRead.getString("path")),
+          () -> Assertions.assertEquals("string", pathRead.getString("resultType")),
+          () -> Assertions.assertEquals(bytes.length, pathRead.getLong("documentSize")),
+          () -> Assertions.assertEquals("isNotNull", assertion.getString("assertion")),
+          () -> Assertions.assertTrue(assertion.getBoolean("passed")),
+          () -> Assertions.assertEquals(bytes.length, assertion.getLong("documentSize")),
+          () -> Assertions.assertFalse(parse.getStartTime().isAfter(parse.getEndTime())),
+          () -> Assertions.assertFalse(assertion.getStartTime().isAfter(pathRead.getStartTime())),
+          () -> Assertions.assertFalse(assertion.getEndTime().isBefore(pathRead.getEndTime())),
+          () -> Assertions.assertTrue(assertion.getDuration().toNanos() > 0));
+    }
+
+    private RecordedEvent eventOfType(List<RecordedEvent> events, String name) {
+      return events.stream()
+          .filter(event -> event.getEventType().getName().equals(name))
+          .findFirst()
+          .orElseThrow(() -> new AssertionError("No event of type " + name));
+    }
+  }
+
+  @Nested
+  class timingReport {
+
+    @Test
+    void report_ranks_tests_paths_and_documents_and_writes_file(@TempDir Path tempDir)
+        throws Exception {
+      var reportFile = tempDir.resolve("reports").resolve("timing.txt");
+      var report = new JsonAssuredTimingExtension.Report(reportFile);
+      try {
+        report.start(
+            "[engine:junit-jupiter]/[class:SampleTest]/[method:first()]", "SampleTest#first()");
+        JsonAssured.assertJson(
+                "{\"items\": [1, 2], \"name\": \"value\"}".getBytes(StandardCharsets.UTF_8))
+            .intArrayPath("$.items", items -> items.hasSize(2))
+            .isNotNull("$.name");
+        report.finish();
+        report.start(
+            "[engine:junit-jupiter]/[class:SampleTest]/[method:second()]", "SampleTest#second()");
+        JsonAssured.assertJson("{\"name\": \"caf\u00e9\"}").isNotNull("$.name");
+        report.finish();
+        JsonAssured.assertJson("{\"unattributed\": true}").isTrue("$.unattributed");
+      } finally {
+        report.close();
+      }
+
+      var content = Files.readString(reportFile);
+      Assertions.assertAll(
+          () -> Assertions.assertTrue(content.startsWith("JsonAssured timing report")),
+          () -> Assertions.assertTrue(content.contains("SampleTest#first()")),
+          () -> Assertions.assertTrue(content.contains("evaluations  $.items")),
+          () -> Assertions.assertTrue(content.contains("evaluations  $.name")),
+          () -> Assertions.assertTrue(content.contains("bytes  SampleTest#first()")),
+          () -> Assertions.assertTrue(content.contains("17 bytes  SampleTest#second()")),
+          () -> Assertions.assertFalse(content.contains("unattributed")));
+      Assertions.assertNull(JsonListeners.resolve(JsonAssuredConfig.defaults()));
+    }
+  }
+
+  @Nested
+  @ExtendWith({JsonAssuredTimingExtension.class, timingExtension.ReportProbe.class})
+  class timingExtension {
+
+    static final class ReportProbe implements AfterEachCallback {
+
+      @Override
+      public void afterEach(ExtensionContext context) {
+        var report =
+            context
+                .getRoot()
+                .getStore(JsonAssuredTimingExtension.NAMESPACE)
+                .get(
+                    JsonAssuredTimingExtension.Report.class,
+                    JsonAssuredTimingExtension.Report.class);
+        Assertions.assertNotNull(report);
+        Assertions.assertTrue(
+            report
+                .render()
+                .contains(
+                    "17 bytes  "
+                        + context.getRequiredTestClass().getName()
+                        + "#"
+                        + context.getDisplayName()));
+      }
+    }
+
+    @Test
+    void string_documents_are_attributed_to_the_running_test() {
+      Assertions.assertNotNull(
+          JsonAssured.assertJson("{\"name\": \"caf\u00e9\"}").isNotNull("$.name"));
+    }
+  }
+
+  private static Flux<DataBuffer> chunks(String body, int chunkSize) {
+    var bytes = body.getBytes(StandardCharsets.UTF_8);
+    var factory = new DefaultDataBufferFactory();
+    var buffers = new ArrayList<DataBuffer>();
+    for (var start = 0; start < bytes.length; start += chunkSize) {
+      buffers.add(
+          factory.wrap(
+              Arrays.copyOfRange(bytes, start, Math.min(bytes.length, start + chunkSize))));
+    }
+    return Flux.fromIterable(buffers);
+  }
+
   static class NonNullBlankStrings implements ArgumentsProvider {
 
     @Override